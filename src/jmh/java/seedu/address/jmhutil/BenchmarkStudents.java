@@ -0,0 +1,27 @@
+package seedu.address.jmhutil;
+
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Settings of the students used by the benchmarks.
+ */
+public class BenchmarkStudents {
+
+    public static final int STUDENTS_PER_TUTORIAL_GROUP = 40;
+    public static final int ATTENDANCE_SESSIONS = 10;
+
+    private BenchmarkStudents() {}
+
+    /**
+     * Returns a generator of {@code studentCount} students in tutorial groups of about
+     * {@link #STUDENTS_PER_TUTORIAL_GROUP} students, with {@link #ATTENDANCE_SESSIONS} sessions of attendance.
+     */
+    public static AddressBookGenerator getGenerator(int studentCount) {
+        int tutorialGroupCount = Math.min(AddressBookGenerator.MAX_TUTORIAL_GROUPS,
+                Math.max(1, studentCount / STUDENTS_PER_TUTORIAL_GROUP));
+        return new AddressBookGenerator()
+                .withStudents(studentCount)
+                .withTutorialGroups(tutorialGroupCount)
+                .withAttendanceSessions(ATTENDANCE_SESSIONS);
+    }
+}
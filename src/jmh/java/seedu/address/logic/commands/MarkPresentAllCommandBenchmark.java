@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.jmhutil.BenchmarkStudents;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures marking a whole tutorial group present, alternating between a new session and an existing one so that
+ * both adding and overwriting attendance are covered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MarkPresentAllCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private ModelManager modelManager;
+    private TutorialGroup tutorialGroup;
+    private final LocalDate newSession = AddressBookGenerator.TERM_START.plusWeeks(
+            BenchmarkStudents.ATTENDANCE_SESSIONS);
+    private final LocalDate existingSession = AddressBookGenerator.TERM_START;
+
+    /**
+     * Builds a model of {@code studentCount} students and picks a tutorial group in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = BenchmarkStudents.getGenerator(studentCount);
+        modelManager = new ModelManager(generator.generate(), new UserPrefs());
+        tutorialGroup = generator.generateStudent(studentCount / 2).getTutorialGroup();
+    }
+
+    /**
+     * Marks the tutorial group present for a new session, then removes that session again with undo.
+     */
+    @Benchmark
+    public boolean executeNewSession() throws CommandException {
+        MarkPresentAllCommand command = new MarkPresentAllCommand(tutorialGroup, newSession);
+        command.execute(modelManager);
+        return command.undo(modelManager);
+    }
+
+    @Benchmark
+    public CommandResult executeExistingSession() throws CommandException {
+        return new MarkPresentAllCommand(tutorialGroup, existingSession).execute(modelManager);
+    }
+}
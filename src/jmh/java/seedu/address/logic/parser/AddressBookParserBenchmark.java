@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a line of user input into a command, for commands with few and with many arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "list",
+        "adds n/John Doe p/98765432 tg/G01 sn/A1234567X",
+        "markat n/John Doe dt/2019-10-09 pr/p sn/A0123456L",
+        "edita n/John Doe a/Math Quiz d/2025-03-01 s/Y g/85 sn/A0123456L",
+        "markpresentall tg/G01 dt/2019-10-09"
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting argument strings on the prefixes of the command that they are given to, and on all the prefixes
+ * in {@link CliSyntax#PREFIX_ARRAY} as is done to check for invalid prefixes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ADD_ASSIGNMENT_BY_TG_ARGS =
+            " tg/T15 a/Final Project Milestone Two Report And Presentation d/2024-10-09";
+    private static final String EDIT_ASSIGNMENT_ARGS = " n/Alexander Christopher Johnson"
+            + " a/Final Project Milestone Two Report d/2025-03-01 s/Y g/85.5 sn/A0123456L";
+    private static final int PASTED_STUDENT_COUNT = 50;
+
+    @Param({"addatg", "edita", "pasted"})
+    private String input;
+
+    private String argsString;
+    private Prefix[] prefixes;
+
+    /**
+     * Picks the arguments string and prefixes of {@code input}. A pasted input is the arguments of many students
+     * run together, as when a list of students is pasted into a single command.
+     */
+    @Setup
+    public void setUp() {
+        switch (input) {
+        case "addatg":
+            argsString = ADD_ASSIGNMENT_BY_TG_ARGS;
+            prefixes = new Prefix[] {PREFIX_TUTORIAL_GROUP, PREFIX_ASSIGNMENT, PREFIX_DEADLINE};
+            break;
+        case "edita":
+            argsString = EDIT_ASSIGNMENT_ARGS;
+            prefixes = new Prefix[] {PREFIX_NAME, PREFIX_ASSIGNMENT, PREFIX_DEADLINE, PREFIX_STATUS, PREFIX_GRADE,
+                PREFIX_STUDENT_NUMBER};
+            break;
+        default:
+            StringBuilder pasted = new StringBuilder();
+            for (int i = 0; i < PASTED_STUDENT_COUNT; i++) {
+                pasted.append(String.format(" n/Student Number %d p/9123456%d tg/G0%d sn/A012345%dZ",
+                        i, i % 10, i % 10, i % 10));
+            }
+            argsString = pasted.toString();
+            prefixes = CliSyntax.PREFIX_ARRAY;
+        }
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(argsString, prefixes);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAllPrefixes() {
+        return ArgumentTokenizer.tokenize(argsString, CliSyntax.PREFIX_ARRAY);
+    }
+}
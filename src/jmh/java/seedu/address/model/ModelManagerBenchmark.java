@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.jmhutil.BenchmarkStudents;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures looking up the students of one tutorial group in a {@code ModelManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private ModelManager modelManager;
+    private TutorialGroup tutorialGroup;
+
+    /**
+     * Builds a model of {@code studentCount} students and picks a tutorial group in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = BenchmarkStudents.getGenerator(studentCount);
+        modelManager = new ModelManager(generator.generate(), new UserPrefs());
+        tutorialGroup = generator.generateStudent(studentCount / 2).getTutorialGroup();
+    }
+
+    @Benchmark
+    public List<Student> getStudentsByTutorialGroup() {
+        return modelManager.getStudentsByTutorialGroup(tutorialGroup);
+    }
+}
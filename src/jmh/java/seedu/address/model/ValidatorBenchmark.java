@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.assignment.Deadline;
+import seedu.address.model.assignment.Grade;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Measures the validators of the model values against the checks they replaced: matching the input with the
+ * validation regex, or for a deadline, parsing it with a formatter and catching the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidatorBenchmark {
+
+    @Param({"name", "phone", "studentNumber", "tutorialGroup", "grade", "deadline"})
+    private String value;
+
+    private String input;
+    private Predicate<String> validator;
+    private Predicate<String> baseline;
+
+    /**
+     * Picks a valid input of {@code value}, its validator and the check that the validator replaced.
+     */
+    @Setup
+    public void setUp() {
+        switch (value) {
+        case "name":
+            input = "Alexander Christopher Johnson";
+            validator = Name::isValidName;
+            baseline = matching(Name.VALIDATION_REGEX);
+            break;
+        case "phone":
+            input = "91234567";
+            validator = Phone::isValidPhone;
+            baseline = matching(Phone.VALIDATION_REGEX);
+            break;
+        case "studentNumber":
+            input = "A0123456L";
+            validator = StudentNumber::isValidStudentNumber;
+            baseline = matching(StudentNumber.VALIDATION_REGEX);
+            break;
+        case "tutorialGroup":
+            input = "T15";
+            validator = TutorialGroup::isValidTutorialGroup;
+            baseline = matching(TutorialGroup.VALIDATION_REGEX);
+            break;
+        case "grade":
+            input = "85.5";
+            validator = Grade::isValidGrade;
+            baseline = matching(Grade.VALIDATION_REGEX);
+            break;
+        default:
+            input = "2025-03-01";
+            validator = Deadline::isValidDeadline;
+            baseline = ValidatorBenchmark::isParsedByFormatter;
+        }
+    }
+
+    private static Predicate<String> matching(String regex) {
+        return test -> test.matches(regex);
+    }
+
+    private static boolean isParsedByFormatter(String test) {
+        try {
+            LocalDate.parse(test, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean validator() {
+        return validator.test(input);
+    }
+
+    @Benchmark
+    public boolean baseline() {
+        return baseline.test(input);
+    }
+}
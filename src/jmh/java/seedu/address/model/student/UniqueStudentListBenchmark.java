@@ -0,0 +1,74 @@
+package seedu.address.model.student;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.jmhutil.BenchmarkStudents;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures adding students to and looking students up in a {@code UniqueStudentList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueStudentListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private List<Student> students;
+    private UniqueStudentList filledList;
+    private Student presentStudent;
+    private Student absentStudent;
+
+    /**
+     * Builds the students and a list that holds all of them.
+     */
+    @Setup
+    public void setUp() {
+        AddressBookGenerator generator = BenchmarkStudents.getGenerator(studentCount);
+        students = generator.generateStudents();
+        filledList = new UniqueStudentList();
+        filledList.setStudents(students);
+        presentStudent = new Student(students.get(studentCount / 2));
+        absentStudent = generator.generateStudent(studentCount);
+    }
+
+    /**
+     * Adds all the students one by one to an empty list.
+     */
+    @Benchmark
+    public UniqueStudentList addAll() {
+        UniqueStudentList list = new UniqueStudentList();
+        for (Student student : students) {
+            list.add(student);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return filledList.contains(presentStudent);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return filledList.contains(absentStudent);
+    }
+}
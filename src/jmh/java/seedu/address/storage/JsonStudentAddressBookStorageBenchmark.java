@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.jmhutil.BenchmarkStudents;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures reading and saving the json data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonStudentAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int studentCount;
+
+    private Path folder;
+    private JsonStudentAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Writes a data file of {@code studentCount} students to a temporary folder.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("teletutors-jmh");
+        storage = new JsonStudentAddressBookStorage(folder.resolve("addressbook.json"));
+        addressBook = BenchmarkStudents.getGenerator(studentCount).generate();
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook, folder.resolve("saved.json"));
+    }
+}
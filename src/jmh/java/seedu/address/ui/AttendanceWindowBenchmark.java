@@ -0,0 +1,78 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.jmhutil.BenchmarkStudents;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures keeping an attendance table of one tutorial group up to date as the attendance of one student changes.
+ * Both changes should take the same time whatever the size of the group, as only one cell or one date column of
+ * the table is updated. The pulses that update the date columns are run as soon as they are scheduled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AttendanceWindowBenchmark {
+
+    @Param({"10", "40", "160", "640"})
+    private int groupSize;
+
+    private Student student;
+    private boolean isPresent;
+    private final LocalDate newSession = AddressBookGenerator.TERM_START.plusWeeks(
+            BenchmarkStudents.ATTENDANCE_SESSIONS);
+    private final LocalDate existingSession = AddressBookGenerator.TERM_START;
+
+    /**
+     * Builds a model of one tutorial group of {@code groupSize} students and fills an attendance table with it.
+     */
+    @Setup
+    public void setUp() {
+        ModelManager modelManager = new ModelManager(BenchmarkStudents.getGenerator(groupSize)
+                .withTutorialGroups(1).generate(), new UserPrefs());
+        student = modelManager.getAddressBook().getStudentList().get(groupSize / 2);
+        AttendanceWindow window = new AttendanceWindow(student.getTutorialGroup(), Runnable::run);
+        window.initialize(modelManager);
+    }
+
+    /**
+     * Changes the attendance of the student on a session that already has a column, which updates one cell.
+     */
+    @Benchmark
+    public Attendance markExistingSession() {
+        isPresent = !isPresent;
+        student.markAttendance(existingSession, isPresent ? "p" : "a");
+        return student.getAttendance(existingSession);
+    }
+
+    /**
+     * Marks the student for a session that no one else has, which adds a column, and then removes it again.
+     */
+    @Benchmark
+    public Attendance markAndDeleteNewSession() {
+        student.markAttendance(newSession, "p");
+        student.deleteAttendance(newSession);
+        return student.getAttendance(newSession);
+    }
+}
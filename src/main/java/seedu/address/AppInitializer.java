@@ -0,0 +1,287 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageMode;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, storage, model and logic of the application, without any UI.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Sets up the application from the config file at {@code configFilePath}, or from the default config file
+     * if {@code configFilePath} is null.
+     */
+    public AppInitializer(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage, config.getSaveDebounceMillis());
+        CommandStack.setMemoryBudget(Math.max(0, config.getUndoMemoryBudget()));
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the storage mode chosen in {@code userPrefs}.
+     * If the data was last kept in another storage mode, it is converted into the chosen one and the files of the
+     * other mode are retired. If the conversion fails, the storage of the last mode is used instead, and the
+     * conversion is tried again at the next start. The mode in use is recorded in {@code userPrefs} right away.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        StorageMode storageMode = userPrefs.getStorageMode();
+        StorageMode lastStorageMode = userPrefs.getLastStorageMode();
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using storage mode : " + storageMode);
+
+        if (lastStorageMode == null) {
+            convertIfMissing(storageMode, jsonFilePath);
+        } else if (lastStorageMode != storageMode && !convert(lastStorageMode, storageMode, jsonFilePath)) {
+            logger.warning("Keeping storage mode " + lastStorageMode + " until the data can be converted");
+            storageMode = lastStorageMode;
+        }
+
+        if (storageMode != lastStorageMode) {
+            userPrefs.setLastStorageMode(storageMode);
+            try {
+                userPrefsStorage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+            }
+        }
+        return createAddressBookStorage(storageMode, jsonFilePath, true);
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} of {@code storageMode} for the json file at {@code jsonFilePath}.
+     * @param isLazy whether binary data is decoded only when it is first used.
+     */
+    private AddressBookStorage createAddressBookStorage(StorageMode storageMode, Path jsonFilePath, boolean isLazy) {
+        switch (storageMode) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(jsonFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), isLazy);
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        default:
+            return new JsonStudentAddressBookStorage(jsonFilePath);
+        }
+    }
+
+    /**
+     * Returns the files that hold the data of {@code storageMode} for the json file at {@code jsonFilePath}.
+     */
+    private static List<Path> getDataFilePaths(StorageMode storageMode, Path jsonFilePath) {
+        switch (storageMode) {
+        case JOURNAL:
+            return List.of(jsonFilePath, JournalAddressBookStorage.getJournalFilePath(jsonFilePath));
+        case BINARY:
+            return List.of(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        case SHARDED:
+            return List.of(ShardedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        default:
+            return List.of(jsonFilePath);
+        }
+    }
+
+    /**
+     * Converts the data kept in {@code lastStorageMode} into {@code storageMode}, and retires the files that only
+     * {@code lastStorageMode} uses.
+     *
+     * @return false if the data could not be converted.
+     */
+    private boolean convert(StorageMode lastStorageMode, StorageMode storageMode, Path jsonFilePath) {
+        // The source is read in full so that none of its files is still in use when it is retired
+        AddressBookStorage source = createAddressBookStorage(lastStorageMode, jsonFilePath, false);
+        AddressBookStorage target = createAddressBookStorage(storageMode, jsonFilePath, false);
+        List<Path> staleFiles = new ArrayList<>(getDataFilePaths(lastStorageMode, jsonFilePath));
+        staleFiles.removeAll(getDataFilePaths(storageMode, jsonFilePath));
+        try {
+            AddressBookConverter.convert(source, target, staleFiles);
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + source.getAddressBookFilePath() + " to "
+                    + target.getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Converts the data of the other format into {@code storageMode} if {@code storageMode} has no data file yet.
+     * Used when the prefs do not record which storage mode the data was last kept in.
+     */
+    private void convertIfMissing(StorageMode storageMode, Path jsonFilePath) {
+        StorageMode sourceStorageMode = storageMode == StorageMode.JSON || storageMode == StorageMode.JOURNAL
+                ? StorageMode.BINARY
+                : StorageMode.JSON;
+        AddressBookStorage source = createAddressBookStorage(sourceStorageMode, jsonFilePath, false);
+        AddressBookStorage target = createAddressBookStorage(storageMode, jsonFilePath, false);
+        try {
+            AddressBookConverter.convertIfMissing(source, target);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + source.getAddressBookFilePath() + " to "
+                    + target.getAddressBookFilePath() + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     * In journal mode, the journal is replayed on top of the last snapshot while the address book is read. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
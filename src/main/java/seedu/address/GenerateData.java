@@ -0,0 +1,89 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+
+/**
+ * Writes a data file of made-up students, for trying out the application with a large number of students.
+ */
+public class GenerateData {
+
+    public static final String DEFAULT_OUTPUT_FILE = "data/generated.json";
+    public static final String MESSAGE_USAGE = "Usage: GenerateData [--out=FILE] [--students=N] [--groups=N] "
+            + "[--assignments=N] [--sessions=N] [--grade-mean=X] [--grade-sd=X] [--submission-rate=X] "
+            + "[--attendance-rate=X] [--seed=N]";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateData.class);
+
+    public static void main(String[] args) throws IOException {
+        AddressBookGenerator generator = new AddressBookGenerator();
+        Path outputFile = Paths.get(DEFAULT_OUTPUT_FILE);
+        try {
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException("options should be of the form --NAME=VALUE");
+                }
+                outputFile = applyOption(generator, option[0], option[1], outputFile);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid option: " + e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        logger.info("Generating " + generator);
+        AddressBook addressBook = generator.generate();
+        new JsonStudentAddressBookStorage(outputFile).saveAddressBook(addressBook);
+        logger.info("Wrote " + addressBook.getStudentList().size() + " students to " + outputFile.toAbsolutePath());
+    }
+
+    /**
+     * Applies the option {@code name} to {@code generator}, and returns the output file after the option.
+     *
+     * @throws IllegalArgumentException if the option is unknown or its value is invalid.
+     */
+    private static Path applyOption(AddressBookGenerator generator, String name, String value, Path outputFile) {
+        switch (name) {
+        case "--out":
+            return Paths.get(value);
+        case "--students":
+            generator.withStudents(Integer.parseInt(value));
+            break;
+        case "--groups":
+            generator.withTutorialGroups(Integer.parseInt(value));
+            break;
+        case "--assignments":
+            generator.withAssignmentsPerStudent(Integer.parseInt(value));
+            break;
+        case "--sessions":
+            generator.withAttendanceSessions(Integer.parseInt(value));
+            break;
+        case "--grade-mean":
+            generator.withGradeMean(Double.parseDouble(value));
+            break;
+        case "--grade-sd":
+            generator.withGradeStandardDeviation(Double.parseDouble(value));
+            break;
+        case "--submission-rate":
+            generator.withSubmissionRate(Double.parseDouble(value));
+            break;
+        case "--attendance-rate":
+            generator.withAttendanceRate(Double.parseDouble(value));
+            break;
+        case "--seed":
+            generator.withSeed(Long.parseLong(value));
+            break;
+        default:
+            throw new IllegalArgumentException("unknown option " + name);
+        }
+        return outputFile;
+    }
+}
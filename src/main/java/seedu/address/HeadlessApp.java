@@ -0,0 +1,194 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CloseWindowCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.GetAttendanceByTgCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the application without the GUI, so that it can be used from scripts and on machines without a display.
+ * Commands are read from a script file, or else from the standard input, and the result of each command is
+ * printed to the standard output.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String MESSAGE_USAGE = "Usage: " + HEADLESS_FLAG + " [--config=FILE] [SCRIPT]\n"
+            + "Runs the commands in SCRIPT, or the commands read from the standard input if no SCRIPT is given.";
+    public static final String MESSAGE_NOT_HEADLESS = "This command opens or closes a window, "
+            + "so it cannot be used in headless mode.";
+
+    /** Exit status when every command succeeded. */
+    public static final int STATUS_SUCCESS = 0;
+    /** Exit status when at least one command could not be parsed or executed. */
+    public static final int STATUS_COMMAND_FAILED = 1;
+    /** Exit status when the command-line arguments are invalid. */
+    public static final int STATUS_INVALID_ARGUMENTS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final Set<String> WINDOW_COMMAND_WORDS =
+            Set.of(GetAttendanceByTgCommand.COMMAND_WORD, CloseWindowCommand.COMMAND_WORD);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, printing their results to {@code out}
+     * and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            if (arg.startsWith("--") && arg.contains("=")) {
+                String[] parameter = arg.substring(2).split("=", 2);
+                namedParameters.put(parameter[0], parameter[1]);
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() > 1 || !namedParameters.keySet().stream().allMatch("config"::equals)) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(STATUS_INVALID_ARGUMENTS);
+        }
+
+        logger.info("=============================[ Initializing AddressBook (headless) ]=============");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppInitializer appInitializer = new AppInitializer(appParameters.getConfigPath());
+        HeadlessApp app = new HeadlessApp(appInitializer.getLogic(), System.out, System.err);
+
+        int status = STATUS_COMMAND_FAILED;
+        try {
+            if (unnamedParameters.isEmpty()) {
+                status = app.runLines(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+            } else {
+                status = app.runScript(Paths.get(unnamedParameters.get(0)));
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to read commands: " + StringUtil.getDetails(e));
+        } finally {
+            // Changes made before an unexpected failure must still be saved
+            stop(appInitializer.getLogic(), appInitializer.getStorage(), appInitializer.getModel());
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Runs the commands in {@code script} as a single {@code run} command, so that the data is saved once at the end.
+     * The commands after a failed command are still run, but the failure is reflected in the exit status.
+     *
+     * @return the exit status.
+     */
+    public int runScript(Path script) {
+        requireNonNull(script);
+        try {
+            CommandResult commandResult = execute(RunCommand.COMMAND_WORD + " " + script);
+            boolean hasFailures = commandResult instanceof RunCommandResult runCommandResult
+                    && runCommandResult.getFailureCount() > 0;
+            return hasFailures ? STATUS_COMMAND_FAILED : STATUS_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return STATUS_COMMAND_FAILED;
+        }
+    }
+
+    /**
+     * Executes each line read from {@code input} as a command, until the input ends or an exit command is executed.
+     * Blank lines are skipped.
+     *
+     * @return the exit status.
+     */
+    public int runLines(BufferedReader input) throws IOException {
+        requireNonNull(input);
+        int status = STATUS_SUCCESS;
+        String line;
+        while ((line = input.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!isAllowedHeadless(line)) {
+                err.println(MESSAGE_NOT_HEADLESS);
+                status = STATUS_COMMAND_FAILED;
+                continue;
+            }
+            try {
+                if (execute(line).isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                status = STATUS_COMMAND_FAILED;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Executes {@code commandText} and prints the feedback of its result.
+     */
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = logic.execute(commandText);
+        out.println(commandResult.getFeedbackToUser());
+        return commandResult;
+    }
+
+    /**
+     * Returns true if the command in {@code commandText} can be executed without the GUI.
+     * Commands that open or close windows need the JavaFX toolkit, which is not started in headless mode.
+     * Scripts need no such check, since {@code run} already rejects these commands.
+     */
+    private static boolean isAllowedHeadless(String commandText) {
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        return !WINDOW_COMMAND_WORDS.contains(commandWord);
+    }
+
+    /**
+     * Saves any changes that are still pending, and the user prefs, before the application exits.
+     */
+    private static void stop(Logic logic, Storage storage, Model model) {
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flush();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -25,6 +26,11 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            // Without the GUI, the JavaFX toolkit is never started
+            HeadlessApp.main(args);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDebounceMillis = 300;
+    private long undoMemoryBudget = 16 * 1024 * 1024;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long changes are collected before they are saved together in the background.
+     * A value of 0 saves synchronously after every command.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns roughly how many bytes of memory the commands kept for undo and redo may take before the oldest
+     * of them are forgotten.
+     */
+    public long getUndoMemoryBudget() {
+        return undoMemoryBudget;
+    }
+
+    public void setUndoMemoryBudget(long undoMemoryBudget) {
+        this.undoMemoryBudget = undoMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +73,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveDebounceMillis == otherConfig.saveDebounceMillis
+                && undoMemoryBudget == otherConfig.undoMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveDebounceMillis, undoMemoryBudget);
     }
 
     @Override
@@ -60,6 +88,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveDebounceMillis", saveDebounceMillis)
+                .add("undoMemoryBudget", undoMemoryBudget)
                 .toString();
     }
 
@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.Histogram;
+
+/**
+ * Records how long the stages of each command take and how long and how large saves of the data file are,
+ * over the current session of the app.
+ */
+public class PerformanceStatistics {
+
+    /**
+     * The stages that a command goes through.
+     */
+    public enum Stage {
+        PARSE, EXECUTE, SAVE
+    }
+
+    private static final Map<String, Histogram[]> commandDurations = new ConcurrentHashMap<>();
+    private static final Histogram saveDurations = new Histogram();
+    private static final Histogram saveSizes = new Histogram();
+
+    private PerformanceStatistics() {}
+
+    /**
+     * Records that the {@code stage} of a command with the word {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public static void recordCommand(String commandWord, Stage stage, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(stage);
+        commandDurations.computeIfAbsent(commandWord, word -> newStageHistograms())[stage.ordinal()]
+                .record(Math.max(0, nanos));
+    }
+
+    /**
+     * Records that a save of the data file took {@code nanos} nanoseconds and left a data file of {@code bytes}
+     * bytes.
+     */
+    public static void recordSave(long nanos, long bytes) {
+        saveDurations.record(Math.max(0, nanos));
+        saveSizes.record(Math.max(0, bytes));
+    }
+
+    /**
+     * Returns the words of the recorded commands in alphabetical order.
+     */
+    public static List<String> getCommandWords() {
+        List<String> commandWords = new ArrayList<>(commandDurations.keySet());
+        commandWords.sort(null);
+        return commandWords;
+    }
+
+    /**
+     * Returns the durations in nanoseconds of the {@code stage} of the commands with the word {@code commandWord}.
+     */
+    public static Histogram getCommandDurations(String commandWord, Stage stage) {
+        Histogram[] stageHistograms = commandDurations.get(commandWord);
+        return stageHistograms == null ? new Histogram() : stageHistograms[stage.ordinal()];
+    }
+
+    public static Histogram getSaveDurations() {
+        return saveDurations;
+    }
+
+    public static Histogram getSaveSizes() {
+        return saveSizes;
+    }
+
+    private static Histogram[] newStageHistograms() {
+        Histogram[] stageHistograms = new Histogram[Stage.values().length];
+        for (int i = 0; i < stageHistograms.length; i++) {
+            stageHistograms[i] = new Histogram();
+        }
+        return stageHistograms;
+    }
+}
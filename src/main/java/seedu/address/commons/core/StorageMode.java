@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The ways in which the address book can be kept on disk.
+ */
+public enum StorageMode {
+    /** The whole address book is rewritten as a single JSON file on every save. */
+    JSON,
+    /** Changes are appended to a journal next to a JSON snapshot, which is rewritten only when the journal grows. */
+    JOURNAL,
+    /** The whole address book is rewritten as a compact binary file, next to where the JSON file would be. */
+    BINARY,
+    /** Each tutorial group is kept in its own JSON file, and only the files of changed groups are rewritten. */
+    SHARDED
+}
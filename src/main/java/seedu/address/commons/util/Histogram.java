@@ -0,0 +1,88 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts non-negative values, such as durations or sizes, in buckets whose width grows with the values they hold,
+ * so that any value can be recorded in constant time and space.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Larger values are counted in buckets that are at
+ * most 1/{@value #SUB_BUCKET_COUNT} of their lower bound wide, so percentiles are reported to within that relative
+ * error. The largest value is kept exactly.
+ */
+public class Histogram {
+
+    public static final int SUB_BUCKET_COUNT = 16;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long max;
+
+    /**
+     * Records {@code value}, which should not be negative.
+     */
+    public synchronized void record(long value) {
+        checkArgument(value >= 0, "Recorded values should not be negative");
+        counts[bucketOf(value)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no values have been recorded.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a value that is at least {@code percentile} percent of the recorded values, and is within the bucket
+     * width of the smallest such value. Returns 0 if no values have been recorded.
+     *
+     * @param percentile a percentage greater than 0 and at most 100.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile should be greater than 0 and at most 100");
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT && seen < rank; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), max);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in. Buckets are numbered in increasing order of their values.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value that is counted in {@code bucket}.
+     */
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowestValue = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one object.
+ * Instances are held weakly, so values that are no longer used anywhere else are dropped from the pool.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there is
+     * none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, including any that are about to be dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
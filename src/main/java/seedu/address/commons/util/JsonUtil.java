@@ -2,16 +2,26 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +50,13 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Used to write one value at a time into a larger document, so it must not flush after every value
+    private static final ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private static final int STREAMING_BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -77,6 +95,57 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayFieldName} in the JSON object in the given file one at a time,
+     * passing each to {@code elementConsumer} as soon as it is read, so that the file is never held in memory whole.
+     * Other fields of the object are skipped.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if loading of the JSON file failed, including if it has no such array.
+     * @throws IllegalValueException if {@code elementConsumer} rejects an element.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<T> elementConsumer) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            boolean isArrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(parser.getCurrentName())) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + arrayFieldName + " to be an array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+                isArrayFound = true;
+            }
+            if (!isArrayFound) {
+                throw new JsonParseException(parser, "Missing array " + arrayFieldName);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -91,6 +160,43 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves a JSON object whose only field is the array {@code arrayFieldName} to the specified file.
+     * Each element of {@code elements} is converted with {@code adapter} and written out before the next is converted,
+     * so the JSON is never held in memory whole. The object is written to a temporary file which then replaces
+     * {@code filePath}, so the file holds either its old or its new content even if writing is interrupted.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayField(Path filePath, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, ?> adapter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(adapter);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             JsonGenerator generator = streamingObjectMapper.getFactory().createGenerator(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), STREAMING_BUFFER_SIZE))) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            for (T element : elements) {
+                generator.writeObject(adapter.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +217,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Accepts the elements read by {@link #readJsonArrayField}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+/**
+ * Character scanners for validating user input and stored data without compiling or running a regular expression.
+ * Letters and digits are ASCII only, as in the {@code \p{Alnum}} and {@code \d} regex classes.
+ */
+public class ValidationUtil {
+
+    private ValidationUtil() {} // prevents instantiation
+
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and has only ASCII letters and digits.
+     * Equivalent to matching {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit and has only ASCII letters, digits and spaces.
+     * Equivalent to matching {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} has at least {@code minLength} characters and all of them are ASCII digits.
+     * Equivalent to matching <code>\d{minLength,}</code>.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        return test.length() >= minLength && isDigits(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} (inclusive) to {@code end} (exclusive)
+     * are all ASCII digits.
+     */
+    public static boolean isDigits(String test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
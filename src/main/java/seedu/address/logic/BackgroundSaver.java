@@ -0,0 +1,113 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookSnapshotter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book on a background thread.
+ * Save requests made within {@code debounceMillis} of the first pending request are coalesced into a single
+ * write of the latest snapshot. Save failures are reported to the registered failure handler.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AddressBookSnapshotter snapshotter = new AddressBookSnapshotter();
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSaveScheduled;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+
+    /**
+     * Creates a {@code BackgroundSaver} that writes to {@code storage} at most once every {@code debounceMillis}.
+     */
+    public BackgroundSaver(Storage storage, long debounceMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Sets the handler that is given the error message of every failed save.
+     * The handler is called on the background thread.
+     */
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be saved.
+     * The snapshot is taken on the calling thread, so {@code addressBook} may be modified as soon as this returns.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = snapshotter.takeSnapshot(addressBook);
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isSaveScheduled) {
+                return;
+            }
+            isSaveScheduled = true;
+        }
+        executor.schedule(this::savePendingSnapshot, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Saves any pending snapshot immediately and waits for it, and any save in progress, to complete.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush pending save: " + e.getCause());
+        }
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isSaveScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (AccessDeniedException e) {
+            reportFailure(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } catch (IOException ioe) {
+            reportFailure(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
+        }
+    }
+
+    private void reportFailure(String message) {
+        logger.warning(message);
+        saveFailureHandler.accept(message);
+    }
+}
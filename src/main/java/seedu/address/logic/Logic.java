@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message of every address book save that fails after
+     * {@link #execute(String)} has returned. The handler may be called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes any pending changes to storage, waiting for them to complete.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
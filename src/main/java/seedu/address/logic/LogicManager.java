@@ -3,11 +3,14 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStatistics;
+import seedu.address.commons.core.PerformanceStatistics.Stage;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
@@ -34,14 +37,27 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundSaver backgroundSaver;
+    private long skippedSaveCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book synchronously after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, 0);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code saveDebounceMillis} is positive, the address book is saved on a background thread and changes made
+     * within that many milliseconds of each other are saved together.
+     */
+    public LogicManager(Model model, Storage storage, long saveDebounceMillis) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        backgroundSaver = saveDebounceMillis > 0 ? new BackgroundSaver(storage, saveDebounceMillis) : null;
     }
 
     @Override
@@ -49,11 +65,45 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        long parseStartTime = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = commandWordOf(commandText);
+        long executeStartTime = System.nanoTime();
+        PerformanceStatistics.recordCommand(commandWord, Stage.PARSE, executeStartTime - parseStartTime);
+
+        long versionBeforeCommand = model.getAddressBookVersion();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            PerformanceStatistics.recordCommand(commandWord, Stage.EXECUTE, System.nanoTime() - executeStartTime);
+        }
         CommandStack.pushCommand(command);
         CommandHistory.addCommand(commandText);
 
+        if (model.getAddressBookVersion() == versionBeforeCommand) {
+            skippedSaveCount++;
+            logger.info("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+            return commandResult;
+        }
+
+        long saveStartTime = System.nanoTime();
+        try {
+            save();
+        } finally {
+            PerformanceStatistics.recordCommand(commandWord, Stage.SAVE, System.nanoTime() - saveStartTime);
+        }
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book, or schedules it to be saved if saving is done in the background.
+     */
+    private void save() throws CommandException {
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave(model.getAddressBook());
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -61,8 +111,31 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+    }
 
-        return commandResult;
+    private static String commandWordOf(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        if (backgroundSaver != null) {
+            backgroundSaver.setSaveFailureHandler(saveFailureHandler);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
     }
 
     @Override
@@ -8,6 +8,14 @@ import seedu.address.model.Model;
  */
 public abstract class Command implements Undoable {
 
+    /** Rough number of bytes kept by a command that holds no more than its own arguments. */
+    public static final long COMMAND_MEMORY_ESTIMATE = 128;
+    /**
+     * Rough number of bytes kept for each student that a command holds on to after the student has been removed
+     * from the address book, for a student with a term's worth of assignments and attendance.
+     */
+    public static final long STUDENT_MEMORY_ESTIMATE = 2048;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -22,4 +30,23 @@ public abstract class Command implements Undoable {
         // By default, commands are not undoable
         return false;
     }
+
+    /**
+     * Applies the command again after it has been undone.
+     * By default, the command is executed again, which gives the same result as long as the command does not depend
+     * on what is shown on screen.
+     *
+     * @throws CommandException If the command can no longer be applied.
+     */
+    public CommandResult redo(Model model) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns roughly how many bytes of memory the command keeps after it has been executed, so that it can be
+     * undone. Used to keep the undo history within its memory budget.
+     */
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE;
+    }
 }
@@ -1,13 +1,30 @@
 package seedu.address.logic.commands;
 
-import java.util.Stack;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
- * Represents the command stack that stores the list of all commands
+ * Represents the command stack that stores the commands that can be undone, and the undone commands that can be
+ * redone. The commands are kept within a memory budget: when they are estimated to take more memory than the
+ * budget, the oldest commands are forgotten.
  */
-public class CommandStack extends Stack<Command> {
+public class CommandStack {
+    public static final long DEFAULT_MEMORY_BUDGET = 16 * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandStack.class);
     private static final CommandStack COMMAND_STACK = new CommandStack();
 
+    // The most recent command is at the head of each deque
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    private long memoryUsed;
+
     /**
      * Constructs a command stack
      */
@@ -22,13 +39,24 @@ public class CommandStack extends Stack<Command> {
     }
 
     /**
-     * Pushes a command to the command stack
+     * Sets the most memory, in bytes, that the commands in the command stack are allowed to take, forgetting the
+     * oldest commands if the commands already in the stack take more.
+     */
+    public static void setMemoryBudget(long memoryBudget) {
+        checkArgument(memoryBudget >= 0, "The memory budget should not be negative");
+        COMMAND_STACK.memoryBudget = memoryBudget;
+        COMMAND_STACK.evictOldest();
+    }
+
+    /**
+     * Pushes a command to the command stack. Commands undone before it can no longer be redone.
      * @param command The most recent valid command executed by the user
      */
     public static void pushCommand(Command command) {
-        if (command instanceof UndoCommand) {
+        if (command instanceof UndoCommand || command instanceof RedoCommand) {
             return;
         }
+        COMMAND_STACK.clearRedoEntries();
         COMMAND_STACK.push(command);
     }
 
@@ -37,9 +65,105 @@ public class CommandStack extends Stack<Command> {
      * @return The most recent valid command executed by the user
      */
     public static Command popCommand() {
-        if (COMMAND_STACK.isEmpty()) {
+        return COMMAND_STACK.popFrom(COMMAND_STACK.undoEntries);
+    }
+
+    /**
+     * Pushes a command that has just been undone, so that it can be redone.
+     */
+    public static void pushUndoneCommand(Command command) {
+        COMMAND_STACK.pushTo(COMMAND_STACK.redoEntries, command);
+    }
+
+    /**
+     * Pops the most recently undone command.
+     * @return The command, or null if there are no commands to redo
+     */
+    public static Command popUndoneCommand() {
+        return COMMAND_STACK.popFrom(COMMAND_STACK.redoEntries);
+    }
+
+    /**
+     * Pushes a command that has just been redone, so that it can be undone again without affecting the other
+     * commands that can be redone.
+     */
+    public static void pushRedoneCommand(Command command) {
+        COMMAND_STACK.push(command);
+    }
+
+    void push(Command command) {
+        pushTo(undoEntries, command);
+    }
+
+    Command peek() {
+        Entry entry = undoEntries.peekFirst();
+        return entry == null ? null : entry.command;
+    }
+
+    boolean isEmpty() {
+        return undoEntries.isEmpty();
+    }
+
+    /**
+     * Returns roughly how many bytes of memory the commands in the command stack take.
+     */
+    long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Removes all the commands that can be undone or redone.
+     */
+    void clear() {
+        undoEntries.clear();
+        redoEntries.clear();
+        memoryUsed = 0;
+    }
+
+    private void clearRedoEntries() {
+        while (!redoEntries.isEmpty()) {
+            memoryUsed -= redoEntries.removeFirst().memoryEstimate;
+        }
+    }
+
+    private void pushTo(Deque<Entry> entries, Command command) {
+        Entry entry = new Entry(command);
+        entries.addFirst(entry);
+        memoryUsed += entry.memoryEstimate;
+        evictOldest();
+    }
+
+    private Command popFrom(Deque<Entry> entries) {
+        Entry entry = entries.pollFirst();
+        if (entry == null) {
             return null;
         }
-        return COMMAND_STACK.pop();
+        memoryUsed -= entry.memoryEstimate;
+        return entry.command;
+    }
+
+    /**
+     * Forgets the oldest commands until the rest fit in the memory budget. The commands that can be undone are
+     * forgotten from the first executed, then the commands that can be redone from the last that would be redone.
+     */
+    private void evictOldest() {
+        while (memoryUsed > memoryBudget && !(undoEntries.isEmpty() && redoEntries.isEmpty())) {
+            Entry evicted = undoEntries.isEmpty() ? redoEntries.removeLast() : undoEntries.removeLast();
+            memoryUsed -= evicted.memoryEstimate;
+            logger.fine(() -> "Undo history over its memory budget, forgot " + evicted.command);
+        }
+    }
+
+    /**
+     * A command in the command stack, with the memory it was estimated to take when it was pushed.
+     */
+    private static class Entry {
+        private final Command command;
+        private final long memoryEstimate;
+
+        Entry(Command command) {
+            this.command = command;
+            this.memoryEstimate = command.getUndoMemoryEstimate();
+        }
     }
 }
@@ -37,4 +37,13 @@ public class DeleteAllStudentsCommand extends Command {
         model.replaceStudentList(studentsToDelete);
         return true;
     }
+
+    /**
+     * Returns roughly how much memory the deleted students take, as they are kept so that they can be restored.
+     */
+    @Override
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE
+                + (studentsToDelete == null ? 0 : STUDENT_MEMORY_ESTIMATE * studentsToDelete.size());
+    }
 }
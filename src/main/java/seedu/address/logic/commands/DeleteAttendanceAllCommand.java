@@ -6,14 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
 
@@ -36,7 +33,7 @@ public class DeleteAttendanceAllCommand extends Command {
 
     private final TutorialGroup tutorialGroup;
     private final LocalDate date;
-    private final Map<Student, Attendance> previousAttendances;
+    private PreviousAttendances previousAttendances;
 
     /**
      * Creates a DeleteAttendanceAllCommand to delete the attendance of
@@ -50,8 +47,6 @@ public class DeleteAttendanceAllCommand extends Command {
         requireNonNull(date);
         this.tutorialGroup = tutorialGroup;
         this.date = date;
-        this.previousAttendances = new HashMap<>();
-
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -62,12 +57,8 @@ public class DeleteAttendanceAllCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_TG);
         }
 
+        previousAttendances = new PreviousAttendances(studentsFromSpecifiedTutorialGroup, date);
         for (Student student : studentsFromSpecifiedTutorialGroup) {
-            previousAttendances.put(student, student.getAttendanceRecord().stream()
-                    .filter(record -> record.getDate().equals(date))
-                    .findFirst()
-                    .map(record -> record.getAttendance())
-                    .orElse(null));
             student.deleteAttendance(date);
         }
 
@@ -80,17 +71,15 @@ public class DeleteAttendanceAllCommand extends Command {
     public boolean undo(Model model) {
         requireNonNull(model);
         List<Student> studentsFromSpecifiedTutorialGroup = model.getStudentsByTutorialGroup(tutorialGroup);
-        if (studentsFromSpecifiedTutorialGroup.isEmpty()) {
+        if (previousAttendances == null || studentsFromSpecifiedTutorialGroup.isEmpty()) {
             return false;
         }
+        return previousAttendances.restore(studentsFromSpecifiedTutorialGroup);
+    }
 
-        for (Student student : studentsFromSpecifiedTutorialGroup) {
-            Attendance previousAttendance = previousAttendances.get(student);
-            if (previousAttendance != null) {
-                student.markAttendance(date, previousAttendance.value);
-            }
-        }
-        return true;
+    @Override
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE + (previousAttendances == null ? 0 : previousAttendances.getMemoryEstimate());
     }
 
     @Override
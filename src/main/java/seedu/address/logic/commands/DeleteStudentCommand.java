@@ -130,4 +130,9 @@ public class DeleteStudentCommand extends Command {
         model.addStudent(index, studentToDelete);
         return true;
     }
+
+    @Override
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE + STUDENT_MEMORY_ESTIMATE;
+    }
 }
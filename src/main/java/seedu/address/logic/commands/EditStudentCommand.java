@@ -102,8 +102,7 @@ public class EditStudentCommand extends Command {
         StudentNumber updatedStudentNumber = editStudentDescriptor.getStudentNumber()
                 .orElse(personToEdit.getStudentNumber());
 
-        return new Student(updatedName, updatedPhone, updatedTutorialGroup,
-                updatedStudentNumber, personToEdit.getAssignments(), personToEdit.getAttendanceRecord());
+        return new Student(updatedName, updatedPhone, updatedTutorialGroup, updatedStudentNumber, personToEdit);
     }
 
     @Override
@@ -140,6 +139,25 @@ public class EditStudentCommand extends Command {
         return true;
     }
 
+    /**
+     * Applies the same edit to the same student again, rather than to whichever student is now shown at the index.
+     */
+    @Override
+    public CommandResult redo(Model model) throws CommandException {
+        requireNonNull(model);
+        if (studentToEdit == null || !model.hasStudent(studentToEdit)) {
+            return execute(model);
+        }
+        model.setStudent(studentToEdit, editedStudent);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        return new CommandResult(String.format(MESSAGE_EDIT_STUDENT_SUCCESS, Messages.format(editedStudent)));
+    }
+
+    @Override
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE + STUDENT_MEMORY_ESTIMATE;
+    }
+
     /**
      * Stores the details to edit the person with. Each non-empty field value will replace the
      * corresponding field value of the person.
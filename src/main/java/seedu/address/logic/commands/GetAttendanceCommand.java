@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.StudentNumber;
@@ -92,12 +92,10 @@ public class GetAttendanceCommand extends Command {
         }
 
 
-        // Retrieve attendance records
-        List<AttendanceRecord> records = student.getAttendanceRecord();
-        for (AttendanceRecord record : records) {
-            if (record.getDate().equals(date)) {
-                return new CommandResult(String.format(MESSAGE_SUCCESS, name, date, record.getAttendance()));
-            }
+        // Retrieve attendance record
+        Attendance attendance = student.getAttendance(date);
+        if (attendance != null) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, name, date, attendance));
         }
 
         return new CommandResult(String.format(MESSAGE_NO_ATTENDANCE, name, date));
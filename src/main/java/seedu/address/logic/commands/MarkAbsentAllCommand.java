@@ -6,14 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
 
@@ -34,7 +31,7 @@ public class MarkAbsentAllCommand extends Command {
 
     private final TutorialGroup tutorialGroup;
     private final LocalDate date;
-    private final Map<Student, Attendance> previousAttendances;
+    private PreviousAttendances previousAttendances;
 
     /**
      * Creates a UnmarkPresentAllCommand to mark the attendance of all students in the specified {@code TutorialGroup}
@@ -47,7 +44,6 @@ public class MarkAbsentAllCommand extends Command {
         requireNonNull(date);
         this.tutorialGroup = tutorialGroup;
         this.date = date;
-        this.previousAttendances = new HashMap<>();
     }
 
     @Override
@@ -59,13 +55,8 @@ public class MarkAbsentAllCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_TG);
         }
 
+        previousAttendances = new PreviousAttendances(studentsFromSpecifiedTutorialGroup, date);
         for (Student student : studentsFromSpecifiedTutorialGroup) {
-
-            previousAttendances.put(student, student.getAttendanceRecord().stream()
-                   .filter(record -> record.getDate().equals(date))
-                   .findFirst()
-                   .map(record -> record.getAttendance())
-                    .orElse(null));
             student.markAttendance(date, "a");
         }
         return new CommandResult(String.format(MESSAGE_SUCCESS, tutorialGroup,
@@ -77,19 +68,15 @@ public class MarkAbsentAllCommand extends Command {
         requireNonNull(model);
         List<Student> studentsFromSpecifiedTutorialGroup = model.getStudentsByTutorialGroup(tutorialGroup);
 
-        if (studentsFromSpecifiedTutorialGroup.isEmpty()) {
+        if (previousAttendances == null || studentsFromSpecifiedTutorialGroup.isEmpty()) {
             return false;
         }
+        return previousAttendances.restore(studentsFromSpecifiedTutorialGroup);
+    }
 
-        for (Student student: studentsFromSpecifiedTutorialGroup) {
-            Attendance previousAttendance = previousAttendances.get(student);
-            if (previousAttendance != null) {
-                student.markAttendance(date, previousAttendance.value);
-            } else {
-                student.deleteAttendance(date);
-            }
-        }
-        return true;
+    @Override
+    public long getUndoMemoryEstimate() {
+        return COMMAND_MEMORY_ESTIMATE + (previousAttendances == null ? 0 : previousAttendances.getMemoryEstimate());
     }
 
     @Override
@@ -101,11 +101,7 @@ public class MarkAttendanceCommand extends Command {
 
 
         // Save the previous attendance state
-        previousAttendance = student.get().getAttendanceRecord().stream()
-                .filter(record -> record.getDate().equals(date))
-                .findFirst()
-                .map(record -> record.getAttendance())
-                .orElse(null);
+        previousAttendance = student.get().getAttendance(date);
         // Mark attendance
         student.get().markAttendance(date, attendance.value);
         return new CommandResult(String.format(MESSAGE_SUCCESS, name, attendance,
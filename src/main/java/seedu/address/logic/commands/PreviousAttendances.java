@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+
+/**
+ * The attendance of each student in a list on one date, saved before a command changes it so that the command can
+ * be undone. Only one byte is kept for each student, so that commands on large tutorial groups stay small in the
+ * undo history.
+ */
+class PreviousAttendances {
+    private static final byte NOT_MARKED = 0;
+    private static final byte PRESENT = 1;
+    private static final byte ABSENT = 2;
+
+    private final LocalDate date;
+    private final byte[] attendances;
+
+    /**
+     * Saves the attendance of each of {@code students} on {@code date}.
+     */
+    PreviousAttendances(List<Student> students, LocalDate date) {
+        this.date = date;
+        attendances = new byte[students.size()];
+        for (int i = 0; i < attendances.length; i++) {
+            Attendance attendance = students.get(i).getAttendance(date);
+            attendances[i] = attendance == null ? NOT_MARKED : attendance.equals(Attendance.PRESENT) ? PRESENT : ABSENT;
+        }
+    }
+
+    /**
+     * Restores the saved attendance of each of {@code students}, which should be the students the attendances were
+     * saved from, in the same order.
+     *
+     * @return false if {@code students} is not the list the attendances were saved from.
+     */
+    boolean restore(List<Student> students) {
+        if (students.size() != attendances.length) {
+            return false;
+        }
+        for (int i = 0; i < attendances.length; i++) {
+            Student student = students.get(i);
+            switch (attendances[i]) {
+            case PRESENT:
+                student.markAttendance(date, "p");
+                break;
+            case ABSENT:
+                student.markAttendance(date, "a");
+                break;
+            default:
+                student.deleteAttendance(date);
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns roughly how many bytes of memory the saved attendances take.
+     */
+    long getMemoryEstimate() {
+        return 32 + attendances.length;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * A command used to redo the commands most recently undone.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the most recently undone command.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo successful";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands to redo";
+    public static final String MESSAGE_REDO_FAILED = "The undone command could not be redone: %1$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Command command = CommandStack.popUndoneCommand();
+        if (command == null) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+
+        try {
+            command.redo(model);
+        } catch (CommandException e) {
+            throw new CommandException(String.format(MESSAGE_REDO_FAILED, e.getMessage()), e);
+        }
+        CommandStack.pushRedoneCommand(command);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RedoCommand;
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands of a script one after another as a single command, so that the address book is saved once
+ * after all of them and they are undone together.
+ * <p>
+ * The commands are run against a working model that holds the same students, and the student list of the model is
+ * then replaced in a single change, so the filtered list and the UI are updated once rather than after every
+ * command. Changes made to a student in place, such as marking attendance, are still seen as they are made.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command "
+            + "per line, and saves the data once at the end. Blank lines and lines starting with # are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " scripts/week3.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands.";
+    public static final String MESSAGE_FAILURES = "Ran %1$d commands, of which %2$d failed:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final int MAX_REPORTED_ERRORS = 10;
+
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+    private final List<Command> executedCommands = new ArrayList<>();
+
+    /**
+     * Creates a RunCommand to run {@code commands}, which come from the script lines numbered {@code lineNumbers}.
+     */
+    public RunCommand(List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(commands, lineNumbers);
+        checkArgument(commands.size() == lineNumbers.size(), "Every command should have a line number");
+        this.commands = new ArrayList<>(commands);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+    }
+
+    /**
+     * Runs every command in order. A command that fails does not stop the commands after it; the failures are
+     * listed in the result instead.
+     */
+    @Override
+    public RunCommandResult execute(Model model) {
+        return runAll(model, false);
+    }
+
+    /**
+     * Redoes every command in order, as {@link #execute(Model)} runs them.
+     */
+    @Override
+    public RunCommandResult redo(Model model) {
+        return runAll(model, true);
+    }
+
+    private RunCommandResult runAll(Model model, boolean isRedo) {
+        requireNonNull(model);
+        Model workingModel = createWorkingModel(model);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            try {
+                if (isRedo) {
+                    command.redo(workingModel);
+                } else {
+                    command.execute(workingModel);
+                }
+                executedCommands.add(command);
+            } catch (CommandException e) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumbers.get(i), e.getMessage()));
+            }
+        }
+
+        if (!executedCommands.isEmpty()) {
+            applyWorkingModel(workingModel, model);
+        }
+
+        if (errors.isEmpty()) {
+            return new RunCommandResult(String.format(MESSAGE_SUCCESS, commands.size()), 0);
+        }
+        return new RunCommandResult(String.format(MESSAGE_FAILURES, commands.size(), errors.size()) + "\n"
+                + joinErrors(errors), errors.size());
+    }
+
+    /**
+     * Undoes the commands that succeeded, from the last to the first.
+     */
+    @Override
+    public boolean undo(Model model) {
+        requireNonNull(model);
+        Model workingModel = createWorkingModel(model);
+        boolean isAnyUndone = false;
+        for (int i = executedCommands.size() - 1; i >= 0; i--) {
+            isAnyUndone |= executedCommands.get(i).undo(workingModel);
+        }
+        executedCommands.clear();
+
+        if (isAnyUndone) {
+            applyWorkingModel(workingModel, model);
+        }
+        return isAnyUndone;
+    }
+
+    /**
+     * Returns a model holding the same students and filter as {@code model}, whose changes are not seen by the
+     * listeners of {@code model}.
+     */
+    private static Model createWorkingModel(Model model) {
+        Model workingModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        workingModel.updateFilteredStudentList(model.getPredicate());
+        return workingModel;
+    }
+
+    /**
+     * Replaces the students and filter of {@code model} with those of {@code workingModel}.
+     */
+    private static void applyWorkingModel(Model workingModel, Model model) {
+        model.updateFilteredStudentList(workingModel.getPredicate());
+        model.setAddressBook(workingModel.getAddressBook());
+    }
+
+    @Override
+    public long getUndoMemoryEstimate() {
+        long memoryEstimate = COMMAND_MEMORY_ESTIMATE;
+        for (Command command : executedCommands) {
+            memoryEstimate += command.getUndoMemoryEstimate();
+        }
+        return memoryEstimate;
+    }
+
+    /**
+     * Returns the first {@link #MAX_REPORTED_ERRORS} of {@code errors}, one on each line.
+     */
+    public static String joinErrors(List<String> errors) {
+        if (errors.size() <= MAX_REPORTED_ERRORS) {
+            return String.join("\n", errors);
+        }
+        return String.join("\n", errors.subList(0, MAX_REPORTED_ERRORS)) + "\n"
+                + String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return commands.equals(otherRunCommand.commands)
+                && lineNumbers.equals(otherRunCommand.lineNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands.size())
+                .add("lineNumbers", lineNumbers)
+                .toString();
+    }
+}
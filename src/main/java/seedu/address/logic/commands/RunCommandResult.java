@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the result of a {@code RunCommand}, which also records how many of the commands in the script failed.
+ */
+public class RunCommandResult extends CommandResult {
+
+    private final int failureCount;
+
+    /**
+     * Constructs a {@code RunCommandResult} with the specified {@code feedbackToUser} and number of failed commands.
+     */
+    public RunCommandResult(String feedbackToUser, int failureCount) {
+        super(feedbackToUser);
+        checkArgument(failureCount >= 0, "The number of failed commands should not be negative");
+        this.failureCount = failureCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+}
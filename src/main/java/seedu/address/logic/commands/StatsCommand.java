@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.core.PerformanceStatistics;
+import seedu.address.commons.core.PerformanceStatistics.Stage;
+import seedu.address.commons.util.Histogram;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long commands and saves of the data file have taken during this session.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each kind of command has taken "
+            + "to parse, execute and save, and how long and how large the saves of the data file have been.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_COMMANDS_HEADER = "Command durations in milliseconds (p50 / p95 / p99 / max):";
+    public static final String MESSAGE_SAVES_HEADER = "Saves of the data file:";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KILOBYTE = 1024.0;
+
+    @Override
+    public CommandResult execute(Model model) {
+        List<String> commandWords = PerformanceStatistics.getCommandWords();
+        if (commandWords.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+
+        StringBuilder stats = new StringBuilder(MESSAGE_COMMANDS_HEADER);
+        for (String commandWord : commandWords) {
+            stats.append(String.format("%n%s (%d times)", commandWord,
+                    PerformanceStatistics.getCommandDurations(commandWord, Stage.PARSE).getCount()));
+            for (Stage stage : Stage.values()) {
+                Histogram durations = PerformanceStatistics.getCommandDurations(commandWord, stage);
+                if (durations.getCount() > 0) {
+                    stats.append(String.format("%n  %s: %s", stage.name().toLowerCase(),
+                            summarize(durations, NANOS_PER_MILLI, "%.3f")));
+                }
+            }
+        }
+
+        Histogram saveDurations = PerformanceStatistics.getSaveDurations();
+        if (saveDurations.getCount() > 0) {
+            stats.append(String.format("%n%s %d saves", MESSAGE_SAVES_HEADER, saveDurations.getCount()))
+                    .append(String.format("%n  duration in milliseconds: %s",
+                            summarize(saveDurations, NANOS_PER_MILLI, "%.3f")))
+                    .append(String.format("%n  size in kilobytes: %s",
+                            summarize(PerformanceStatistics.getSaveSizes(), BYTES_PER_KILOBYTE, "%.1f")));
+        }
+        return new CommandResult(stats.toString());
+    }
+
+    /**
+     * Returns the 50th, 95th and 99th percentile and the maximum of {@code histogram}, each divided by {@code unit}
+     * and formatted with {@code format}.
+     */
+    private static String summarize(Histogram histogram, double unit, String format) {
+        return String.format(format, histogram.getValueAtPercentile(50) / unit) + " / "
+                + String.format(format, histogram.getValueAtPercentile(95) / unit) + " / "
+                + String.format(format, histogram.getValueAtPercentile(99) / unit) + " / "
+                + String.format(format, histogram.getMax() / unit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof StatsCommand;
+    }
+}
@@ -24,6 +24,7 @@ public class UndoCommand extends Command {
         if (!isUndoable) {
             return new CommandResult("The previous command is not undoable");
         }
+        CommandStack.pushUndoneCommand(command);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,16 +10,18 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentInListPredicate;
 
 /**
  * Views an existing student in the address book.
+ * The students shown are those matching the name when the command is executed, as found by the name index.
  */
 public class ViewStudentCommand extends Command {
 
     public static final String COMMAND_WORD = "view";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": View all students whose names are exactly "
-            + "the specified name and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": View all students with a word in their names "
+            + "starting with the specified name (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: NAME\n"
             + "Example: " + COMMAND_WORD + " Alice Yeoh";
 
@@ -41,13 +44,12 @@ public class ViewStudentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Student studentWithSpecifiedName = model.getStudentByName(name);
-
-        if (studentWithSpecifiedName == null) {
+        List<Student> matchingStudents = model.getStudentsByNamePrefix(name);
+        if (matchingStudents.isEmpty()) {
             throw new CommandException(MESSAGE_NO_SUCH_STUDENT);
         }
 
-        Predicate<Student> predicate = student -> student.getName().equals(name);
+        Predicate<Student> predicate = new StudentInListPredicate(matchingStudents);
 
         previousFilter = model.getPredicate();
         model.updateFilteredStudentList(predicate);
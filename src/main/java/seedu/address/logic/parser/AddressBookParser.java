@@ -28,6 +28,9 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAbsentAllCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkPresentAllCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -130,6 +133,15 @@ public class AddressBookParser {
         case AddAssignmentByTgCommand.COMMAND_WORD:
             return new AddAssignmentByTgCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -111,7 +111,7 @@ public class ParserUtil {
         if (!TutorialGroup.isValidTutorialGroup(trimmedTutorialGroup)) {
             throw new ParseException(TutorialGroup.MESSAGE_CONSTRAINTS);
         }
-        return new TutorialGroup(trimmedTutorialGroup);
+        return TutorialGroup.of(trimmedTutorialGroup);
     }
 
     /**
@@ -165,7 +165,7 @@ public class ParserUtil {
         if (!Attendance.isValidAttendance(trimmedStatus)) {
             throw new ParseException(Attendance.MESSAGE_CONSTRAINTS);
         }
-        return new Attendance(trimmedStatus);
+        return Attendance.of(trimmedStatus);
     }
 
     /**
@@ -180,7 +180,7 @@ public class ParserUtil {
         if (!AssignmentName.isValidName(assignmentName)) {
             throw new ParseException(AssignmentName.MESSAGE_CONSTRAINTS);
         }
-        return new AssignmentName(assignmentName);
+        return AssignmentName.of(assignmentName);
     }
 
     /**
@@ -212,7 +212,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(trimmedStatus)) {
             throw new ParseException(Status.MESSAGE_CONSTRAINTS);
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -250,6 +250,6 @@ public class ParserUtil {
         if (!Grade.isValidGrade(trimmedGrade)) {
             throw new ParseException(Grade.MESSAGE_CONSTRAINTS);
         }
-        return new Grade(trimmedGrade);
+        return Grade.of(trimmedGrade);
     }
 }
@@ -0,0 +1,78 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * Recognises a fixed set of prefixes at any position of a string, by following the characters of the string
+ * down a trie of the prefixes.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a {@code PrefixTrie} that recognises {@code prefixes}. Empty prefixes are ignored.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            String text = prefix.getPrefix();
+            if (text.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.getOrAddChild(text.charAt(i));
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest of the prefixes that {@code string} has at {@code position}, or null if it has none.
+     */
+    Prefix match(String string, int position) {
+        Prefix longestMatch = null;
+        Node node = root;
+        for (int i = position; i < string.length(); i++) {
+            node = node.getChild(string.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the path to it. Few prefixes share characters, so the
+     * children are kept in small parallel arrays rather than a map.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
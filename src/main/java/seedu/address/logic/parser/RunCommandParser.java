@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.CloseWindowCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.GetAttendanceByTgCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object from the script file that they name.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_UNREADABLE_SCRIPT = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_SCRIPT = "The script has no commands to run.";
+    public static final String MESSAGE_INVALID_SCRIPT = "The script was not run as %1$d of its lines are invalid:";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "This command cannot be used in a script.";
+    public static final String COMMENT_MARKER = "#";
+
+    /**
+     * Reads the script file named by {@code args} and parses all of its commands.
+     * @throws ParseException if the file cannot be read or any of its commands is invalid.
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String fileName = args.trim();
+        if (fileName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(fileName);
+            lines = Files.readAllLines(filePath);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_SCRIPT, fileName, e.getMessage()), e);
+        }
+        return parseLines(lines);
+    }
+
+    /**
+     * Parses every line of a script into a command, skipping blank lines and lines starting with
+     * {@value #COMMENT_MARKER}, and returns a RunCommand of the commands.
+     * @throws ParseException if the script has no commands or any of its commands is invalid.
+     */
+    public static RunCommand parseLines(List<String> lines) throws ParseException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                Command command = addressBookParser.parseCommand(line);
+                if (!isAllowedInScript(command)) {
+                    throw new ParseException(MESSAGE_NOT_IN_SCRIPT);
+                }
+                commands.add(command);
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.add(String.format(RunCommand.MESSAGE_LINE_ERROR, i + 1, pe.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT, errors.size()) + "\n"
+                    + RunCommand.joinErrors(errors));
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_SCRIPT);
+        }
+        return new RunCommand(commands, lineNumbers);
+    }
+
+    /**
+     * Returns true if {@code command} only works on the address book, and so can be run as part of a script.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof RunCommand || command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof ExitCommand || command instanceof HelpCommand
+                || command instanceof GetAttendanceByTgCommand || command instanceof CloseWindowCommand);
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.student.Student;
@@ -17,6 +18,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueStudentList students;
 
+    /** Increases on every change to the student list, including by the versions of students that leave it. */
+    private long listVersion;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -26,6 +30,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         students = new UniqueStudentList();
+        students.asUnmodifiableObservableList().addListener(this::updateListVersion);
     }
 
     public AddressBook() {}
@@ -121,6 +126,27 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a number that increases whenever the student list or any student in it changes.
+     * Two calls return the same number only if no data has changed in between.
+     */
+    public long getVersion() {
+        long version = listVersion;
+        for (Student student : students) {
+            version += student.getVersion();
+        }
+        return version;
+    }
+
+    private void updateListVersion(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            listVersion++;
+            for (Student removed : change.getRemoved()) {
+                listVersion += removed.getVersion();
+            }
+        }
+    }
+
     @Override
     public String toString() {
         ToStringBuilder sb = new ToStringBuilder(this);
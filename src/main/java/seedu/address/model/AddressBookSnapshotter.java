@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+
+/**
+ * Takes snapshots of an address book that share no mutable state with it, for readers on other threads.
+ * <p>
+ * A student whose student number and version are unchanged since the previous snapshot holds the same data, so
+ * the copy made for the previous snapshot is reused instead of copying the student again; if no student has
+ * changed, the previous snapshot itself is returned. Students that are copied share their attendance with the
+ * original copy-on-write, so only their assignment lists are copied.
+ */
+public class AddressBookSnapshotter {
+
+    private List<Student> previousCopies = List.of();
+    private AddressBook previousSnapshot;
+
+    /**
+     * Returns a snapshot of {@code addressBook}. The snapshot must not be modified.
+     */
+    public synchronized ReadOnlyAddressBook takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Student> students = addressBook.getStudentList();
+        List<Student> copies = new ArrayList<>(students.size());
+        Map<StudentNumber, Student> previousCopiesByNumber = null;
+        boolean isUnchanged = previousSnapshot != null && students.size() == previousCopies.size();
+
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            Student previousCopy = i < previousCopies.size() ? previousCopies.get(i) : null;
+            if (previousCopy == null || !previousCopy.isSameStudent(student)) {
+                // Students have been added, removed or reordered since the previous snapshot
+                isUnchanged = false;
+                if (previousCopiesByNumber == null) {
+                    previousCopiesByNumber = copiesByNumber(previousCopies);
+                }
+                previousCopy = previousCopiesByNumber.get(student.getStudentNumber());
+            }
+
+            if (isSameData(previousCopy, student)) {
+                copies.add(previousCopy);
+            } else {
+                isUnchanged = false;
+                copies.add(new Student(student));
+            }
+        }
+
+        if (isUnchanged) {
+            return previousSnapshot;
+        }
+        AddressBook snapshot = new AddressBook();
+        snapshot.setStudents(copies);
+        previousCopies = copies;
+        previousSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Returns true if {@code copy} holds the same identity fields and data as {@code student}.
+     * The identity fields are compared as they are not covered by the version.
+     */
+    private static boolean isSameData(Student copy, Student student) {
+        return copy != null
+                && copy.getVersion() == student.getVersion()
+                && copy.getStudentNumber().equals(student.getStudentNumber())
+                && copy.getName().equals(student.getName())
+                && copy.getPhone().equals(student.getPhone())
+                && copy.getTutorialGroup().equals(student.getTutorialGroup());
+    }
+
+    private static Map<StudentNumber, Student> copiesByNumber(List<Student> copies) {
+        Map<StudentNumber, Student> copiesByNumber = new HashMap<>();
+        copies.forEach(copy -> copiesByNumber.put(copy.getStudentNumber(), copy));
+        return copiesByNumber;
+    }
+}
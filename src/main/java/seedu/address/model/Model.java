@@ -102,6 +102,11 @@ public interface Model {
      */
     void setStudent(Student target, Student editedStudent);
 
+    /**
+     * Returns a number that changes whenever the data in the address book changes.
+     */
+    long getAddressBookVersion();
+
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
 
@@ -121,6 +126,11 @@ public interface Model {
      */
     ObservableList<Student> getAllStudentsByName(Name name);
 
+    /**
+     * Returns a list of students with a word in their name starting with {@code query}, ignoring case.
+     */
+    List<Student> getStudentsByNamePrefix(Name query);
+
     /**
      * Replaces the current student list with the given list.
      */
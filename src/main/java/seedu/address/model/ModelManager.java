@@ -5,10 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,20 +28,24 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final StudentIndex<TutorialGroup> tutorialGroupIndex;
+    private final NameIndex nameIndex;
     private Predicate<Student> filter = PREDICATE_SHOW_ALL_STUDENTS;
 
-
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        filteredStudents = new FilteredList<>(this.addressBook.getStudentList(), filter);
+        tutorialGroupIndex = new StudentIndex<>(this.addressBook.getStudentList(),
+                student -> List.of(student.getTutorialGroup()), new HashMap<>());
+        nameIndex = new NameIndex(this.addressBook.getStudentList());
     }
 
     public ModelManager() {
@@ -139,6 +143,11 @@ public class ModelManager implements Model {
         return addressBook.removeAllStudents();
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
 
 
     //=========== Filtered Person List Accessors =============================================================
@@ -152,6 +161,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        if (predicate == filter) {
+            // the filtered list already keeps up with changes to the students, so filtering again changes nothing
+            return;
+        }
         filter = predicate;
         filteredStudents.setPredicate(predicate);
     }
@@ -159,13 +172,8 @@ public class ModelManager implements Model {
 
     @Override
     public Student getStudentByName(Name name) {
-        for (Student student : getAddressBook().getStudentList()) {
-            if (student.getName().equals(name)) {
-                return student;
-            }
-        }
-        return null; // Return null if no matching student is found
-
+        List<Student> students = nameIndex.getExact(name);
+        return students.isEmpty() ? null : students.get(0); // Return null if no matching student is found
     }
 
     @Override
@@ -186,27 +194,21 @@ public class ModelManager implements Model {
 
     @Override
     public List<Student> getStudentsByTutorialGroup(TutorialGroup tutorialGroup) {
-        List<Student> studentsInTG = new ArrayList<>();
-        for (Student student : getAddressBook().getStudentList()) {
-            if (student.getTutorialGroup().equals(tutorialGroup)) {
-                studentsInTG.add(student);
-            }
-        }
-        return studentsInTG;
+        return new ArrayList<>(tutorialGroupIndex.get(tutorialGroup));
     }
 
     @Override
     public ObservableList<Student> getAllStudentsByName(Name name) {
-        return getAddressBook()
-                .getStudentList()
-                .stream()
-                .filter(s -> s.getName().equals(name))
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+        return FXCollections.observableArrayList(nameIndex.getExact(name));
+    }
+
+    @Override
+    public List<Student> getStudentsByNamePrefix(Name query) {
+        requireNonNull(query);
+        return nameIndex.getByPrefix(query);
     }
 
     public ObservableList<Student> getAllStudents() {
         return getAddressBook().getStudentList();
     }
-
-
 }
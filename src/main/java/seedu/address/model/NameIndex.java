@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * A case-insensitive index of students by name, supporting exact, prefix and token lookups.
+ * Every suffix of a name that starts at a token (e.g. "alice tan", "tan" for "Alice Tan") is kept in a
+ * sorted map, so a prefix lookup only visits the entries that match it.
+ */
+class NameIndex {
+
+    private final NavigableMap<String, List<Student>> studentsByNameSuffix = new TreeMap<>();
+
+    /**
+     * Creates a name index that is kept in sync with {@code students}.
+     */
+    NameIndex(ObservableList<Student> students) {
+        requireNonNull(students);
+        new StudentIndex<>(students, student -> suffixesOf(student.getName()), studentsByNameSuffix);
+    }
+
+    /**
+     * Returns the students whose name is exactly {@code name}, in address book order.
+     */
+    List<Student> getExact(Name name) {
+        requireNonNull(name);
+        List<Student> matches = new ArrayList<>();
+        for (Student student : studentsByNameSuffix.getOrDefault(normalize(name.fullName), List.of())) {
+            if (student.getName().equals(name)) {
+                matches.add(student);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students whose name has a token starting with {@code query}, ignoring case, in index order.
+     * A query with several tokens must match consecutive tokens of the name, and only its last token may be
+     * partial (e.g. "bo" and "bob t" match "Alice Bob Tan", but "lice" and "tan alice" do not).
+     */
+    List<Student> getByPrefix(Name query) {
+        requireNonNull(query);
+        String prefix = normalize(query.fullName);
+        Set<Student> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Student> matches = new ArrayList<>();
+        for (List<Student> students
+                : studentsByNameSuffix.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Student student : students) {
+                if (seen.add(student)) {
+                    matches.add(student);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> suffixesOf(Name name) {
+        String fullName = normalize(name.fullName);
+        Set<String> suffixes = new LinkedHashSet<>();
+        for (int start : tokenStarts(fullName)) {
+            suffixes.add(fullName.substring(start));
+        }
+        return suffixes;
+    }
+
+    private static List<Integer> tokenStarts(String fullName) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < fullName.length(); i++) {
+            if (fullName.charAt(i) != ' ' && (i == 0 || fullName.charAt(i - 1) == ' ')) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageMode getStorageMode();
+
+    StorageMode getLastStorageMode();
+
 }
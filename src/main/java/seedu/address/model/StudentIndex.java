@@ -0,0 +1,141 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Student;
+
+/**
+ * A secondary index over an observable list of students, grouping them by one or more keys per student.
+ * The index is kept in sync through the list's change events, and each group preserves the order of its
+ * students in the source list.
+ *
+ * @param <K> the type of key students are grouped by
+ */
+class StudentIndex<K> {
+
+    private final ObservableList<Student> source;
+    private final Function<Student, Collection<K>> keysOf;
+    private final Map<K, List<Student>> groups;
+
+    /**
+     * Creates an index over {@code source} that stores its groups in {@code groups}.
+     * Callers may pass a sorted map and read range views from it, but must not modify it.
+     */
+    StudentIndex(ObservableList<Student> source, Function<Student, Collection<K>> keysOf,
+            Map<K, List<Student>> groups) {
+        requireAllNonNull(source, keysOf, groups);
+        this.source = source;
+        this.keysOf = keysOf;
+        this.groups = groups;
+        rebuild();
+        source.addListener(this::update);
+    }
+
+    /**
+     * Returns an unmodifiable view of the students with the given key, in source order.
+     * The view is only valid until the source list is next modified.
+     */
+    List<Student> get(K key) {
+        List<Student> group = groups.get(key);
+        return group == null ? Collections.emptyList() : Collections.unmodifiableList(group);
+    }
+
+    private void update(ListChangeListener.Change<? extends Student> change) {
+        Set<K> keysToRebuild = new HashSet<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                rebuild();
+                return;
+            }
+
+            if (change.getRemovedSize() == 1 && change.getAddedSize() == 1
+                    && replaceInPlace(change.getRemoved().get(0), change.getAddedSubList().get(0))) {
+                continue;
+            }
+
+            for (Student removed : change.getRemoved()) {
+                for (K key : keysOf.apply(removed)) {
+                    removeFromGroup(key, removed);
+                }
+            }
+
+            boolean isAppend = change.getTo() == change.getList().size();
+            for (Student added : change.getAddedSubList()) {
+                if (isAppend) {
+                    addToGroups(added);
+                } else {
+                    keysToRebuild.addAll(keysOf.apply(added));
+                }
+            }
+        }
+
+        if (!keysToRebuild.isEmpty()) {
+            rebuild(keysToRebuild);
+        }
+    }
+
+    /**
+     * Replaces {@code removed} with {@code added} in place if both have the same keys.
+     * Returns false if the index was left untouched.
+     */
+    private boolean replaceInPlace(Student removed, Student added) {
+        Collection<K> keys = keysOf.apply(removed);
+        if (!keys.equals(keysOf.apply(added))) {
+            return false;
+        }
+        for (K key : keys) {
+            List<Student> group = groups.get(key);
+            if (group == null || !group.contains(removed)) {
+                return false;
+            }
+        }
+        for (K key : keys) {
+            List<Student> group = groups.get(key);
+            group.set(group.indexOf(removed), added);
+        }
+        return true;
+    }
+
+    private void addToGroups(Student student) {
+        for (K key : keysOf.apply(student)) {
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(student);
+        }
+    }
+
+    private void removeFromGroup(K key, Student student) {
+        List<Student> group = groups.get(key);
+        if (group != null && group.remove(student) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds the groups for {@code keys} with a single pass over the source list.
+     */
+    private void rebuild(Set<K> keys) {
+        keys.forEach(groups::remove);
+        for (Student student : source) {
+            for (K key : keysOf.apply(student)) {
+                if (keys.contains(key)) {
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(student);
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        groups.clear();
+        source.forEach(this::addToGroups);
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageMode;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    // The storage mode the data was last kept in. Null if it was not recorded by the version that saved the prefs.
+    private StorageMode lastStorageMode;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageMode(newUserPrefs.getStorageMode());
+        lastStorageMode = newUserPrefs.getLastStorageMode();
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        requireNonNull(storageMode);
+        this.storageMode = storageMode;
+    }
+
+    public StorageMode getLastStorageMode() {
+        return lastStorageMode;
+    }
+
+    public void setLastStorageMode(StorageMode lastStorageMode) {
+        requireNonNull(lastStorageMode);
+        this.lastStorageMode = lastStorageMode;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +93,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageMode.equals(otherUserPrefs.storageMode)
+                && Objects.equals(lastStorageMode, otherUserPrefs.lastStorageMode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageMode, lastStorageMode);
     }
 
     @Override
@@ -82,6 +108,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage mode : " + storageMode);
+        sb.append("\nLast storage mode : " + lastStorageMode);
         return sb.toString();
     }
 
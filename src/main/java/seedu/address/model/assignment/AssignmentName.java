@@ -2,6 +2,9 @@ package seedu.address.model.assignment;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
+
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents an assignment's name
@@ -18,6 +21,8 @@ public class AssignmentName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<AssignmentName> INTERNER = new Interner<>();
+
     public final String fullName;
 
     /**
@@ -31,11 +36,21 @@ public class AssignmentName {
         fullName = name;
     }
 
+    /**
+     * Returns the shared {@code AssignmentName} for {@code name}, so that all assignments with the same name
+     * refer to one instance.
+     *
+     * @param name A valid name
+     */
+    public static AssignmentName of(String name) {
+        return INTERNER.intern(new AssignmentName(name));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
     @Override
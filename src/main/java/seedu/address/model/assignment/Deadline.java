@@ -2,8 +2,10 @@ package seedu.address.model.assignment;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -26,20 +28,50 @@ public class Deadline {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
-        this.deadline = LocalDate.parse(deadline, DATE_TIME_FORMATTER);
+        LocalDate date = parse(deadline);
+        checkArgument(date != null, MESSAGE_CONSTRAINTS);
+        this.deadline = date;
+    }
+
+    /**
+     * Constructs a {@code Deadline} on the given date.
+     *
+     * @param deadline A date
+     */
+    public Deadline(LocalDate deadline) {
+        requireNonNull(deadline);
+        this.deadline = deadline;
     }
 
     /**
      * Returns if given string is a valid deadline
      */
     public static boolean isValidDeadline(String deadline) {
+        return parse(deadline) != null;
+    }
+
+    /**
+     * Returns the date in {@code deadline}, or null if it is not a valid date in {@link #DATE_TIME_FORMATTER}.
+     * Dates in the usual YYYY-MM-DD form are read without going through the formatter or throwing any exceptions.
+     */
+    private static LocalDate parse(String deadline) {
+        requireNonNull(deadline);
+        if (deadline.length() == 10 && deadline.charAt(4) == '-' && deadline.charAt(7) == '-'
+                && isDigits(deadline, 0, 4) && isDigits(deadline, 5, 7) && isDigits(deadline, 8, 10)) {
+            int year = Integer.parseInt(deadline, 0, 4, 10);
+            int month = Integer.parseInt(deadline, 5, 7, 10);
+            int day = Integer.parseInt(deadline, 8, 10, 10);
+            if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+                return null;
+            }
+            return LocalDate.of(year, month, day);
+        }
+
         try {
-            LocalDate.parse(deadline, DATE_TIME_FORMATTER);
+            return LocalDate.parse(deadline, DATE_TIME_FORMATTER);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
     }
 
     @Override
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Represents an assignment's grade
@@ -17,6 +18,10 @@ public class Grade {
 
     public static final String VALIDATION_REGEX = "[0-9]{1,2}\\.[0-9]*|NULL|[0-9]{1,2}|100(\\.0*)?";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Grade UNGRADED = new Grade();
+
     public final Optional<Double> grade;
 
     /**
@@ -34,6 +39,16 @@ public class Grade {
         }
     }
 
+    /**
+     * Constructs a {@code Grade}
+     *
+     * @param grade A grade between 0 and 100 (inclusive)
+     */
+    public Grade(double grade) {
+        checkArgument(grade >= 0 && grade <= 100, MESSAGE_CONSTRAINTS);
+        this.grade = Optional.of(grade);
+    }
+
     /**
      * Constructs an empty {@code Grade}
      */
@@ -45,14 +60,24 @@ public class Grade {
      * Returns true is given string is a valid grade
      */
     public static boolean isValidGrade(String grade) {
-        return grade.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(grade).matches();
     }
 
     /**
      * Factory method to create a default {@code Grade}
      */
     public static Grade getDefault() {
-        return new Grade();
+        return UNGRADED;
+    }
+
+    /**
+     * Returns a {@code Grade} for the given grade, sharing one instance for all ungraded assignments.
+     *
+     * @param grade A valid grade
+     */
+    public static Grade of(String grade) {
+        requireNonNull(grade);
+        return grade.equals("NULL") ? UNGRADED : new Grade(grade);
     }
 
     /**
@@ -21,6 +21,9 @@ public class Status {
         N
     }
 
+    public static final Status SUBMITTED = new Status(State.Y);
+    public static final Status NOT_SUBMITTED = new Status(State.N);
+
     public final State status;
 
     /**
@@ -51,14 +54,25 @@ public class Status {
      * Factory method to initialize default status.
      */
     public static Status getDefault() {
-        return new Status(State.N);
+        return NOT_SUBMITTED;
+    }
+
+    /**
+     * Returns {@link #SUBMITTED} or {@link #NOT_SUBMITTED} for the given status.
+     *
+     * @param status A valid status
+     */
+    public static Status of(String status) {
+        requireNonNull(status);
+        checkArgument(isValidStatus(status), MESSAGE_CONSTRAINTS);
+        return status.equalsIgnoreCase("y") ? SUBMITTED : NOT_SUBMITTED;
     }
 
     /**
      * Returns true if the given string is a valid status
      */
     public static boolean isValidStatus(String status) {
-        return status.matches(VALIDATION_REGEX);
+        return status.length() == 1 && "YNyn".indexOf(status.charAt(0)) >= 0;
     }
 
     /**
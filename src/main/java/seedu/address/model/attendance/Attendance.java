@@ -13,6 +13,9 @@ public class Attendance {
     // Valid attendance statuses
     public static final String VALIDATION_REGEX = "^(p|a)$";
 
+    public static final Attendance PRESENT = new Attendance("p");
+    public static final Attendance ABSENT = new Attendance("a");
+
     public final String value;
     /**
      * Constructs an {@code Attendance} object.
@@ -25,8 +28,19 @@ public class Attendance {
         value = status;
     }
 
+    /**
+     * Returns {@link #PRESENT} or {@link #ABSENT} for the given attendance status.
+     *
+     * @param status A valid attendance status.
+     */
+    public static Attendance of(String status) {
+        requireNonNull(status);
+        checkArgument(isValidAttendance(status), MESSAGE_CONSTRAINTS);
+        return status.equals("p") ? PRESENT : ABSENT;
+    }
+
     public static boolean isValidAttendance(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.equals("p") || test.equals("a");
     }
 
     @Override
@@ -0,0 +1,214 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A compact record of a student's attendance, storing a 2-bit code (unmarked, present or absent) for every day
+ * in a primitive {@code long[]} indexed by the day's offset from a base day.
+ * {@code Attendance} and {@code AttendanceRecord} objects are only created when they are requested.
+ */
+public class AttendanceBitmap {
+
+    private static final int BITS_PER_DAY = 2;
+    private static final int DAYS_PER_WORD = Long.SIZE / BITS_PER_DAY;
+    private static final long CODE_MASK = (1L << BITS_PER_DAY) - 1;
+
+    private static final long UNMARKED = 0;
+    private static final long PRESENT = 1;
+    private static final long ABSENT = 2;
+
+    /** Index of the word holding the first day covered by {@code words}, counted from the epoch. */
+    private long baseWord;
+    private long[] words = new long[0];
+    private int size;
+
+    public AttendanceBitmap() {}
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public AttendanceBitmap(AttendanceBitmap toBeCopied) {
+        requireNonNull(toBeCopied);
+        baseWord = toBeCopied.baseWord;
+        words = toBeCopied.words.clone();
+        size = toBeCopied.size;
+    }
+
+    /**
+     * Returns the attendance on {@code date}, or null if it is unmarked.
+     */
+    public Attendance get(LocalDate date) {
+        requireNonNull(date);
+        return decode(codeAt(date.toEpochDay()));
+    }
+
+    /**
+     * Records {@code attendance} on {@code date} and returns the previous attendance, or null if it was unmarked.
+     */
+    public Attendance put(LocalDate date, Attendance attendance) {
+        requireAllNonNull(date, attendance);
+        long epochDay = date.toEpochDay();
+        ensureCovers(epochDay);
+        return decode(setCode(epochDay, encode(attendance)));
+    }
+
+    /**
+     * Unmarks {@code date} and returns the previous attendance, or null if it was already unmarked.
+     */
+    public Attendance remove(LocalDate date) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        if (!isCovered(epochDay)) {
+            return null;
+        }
+        return decode(setCode(epochDay, UNMARKED));
+    }
+
+    /**
+     * Returns the number of marked days.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs {@code action} on every marked day, in date order.
+     */
+    public void forEach(BiConsumer<LocalDate, Attendance> action) {
+        requireNonNull(action);
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int slot = Long.numberOfTrailingZeros(word) / BITS_PER_DAY;
+                long epochDay = (baseWord + i) * DAYS_PER_WORD + slot;
+                action.accept(LocalDate.ofEpochDay(epochDay), decode((word >>> (slot * BITS_PER_DAY)) & CODE_MASK));
+                word &= ~(CODE_MASK << (slot * BITS_PER_DAY));
+            }
+        }
+    }
+
+    /**
+     * Returns a new {@code AttendanceRecord} for every marked day, in date order.
+     */
+    public List<AttendanceRecord> toAttendanceRecords() {
+        List<AttendanceRecord> records = new ArrayList<>(size);
+        forEach((date, attendance) -> records.add(new AttendanceRecord(date, attendance)));
+        return records;
+    }
+
+    private static long encode(Attendance attendance) {
+        return attendance.equals(Attendance.PRESENT) ? PRESENT : ABSENT;
+    }
+
+    private static Attendance decode(long code) {
+        if (code == PRESENT) {
+            return Attendance.PRESENT;
+        }
+        return code == ABSENT ? Attendance.ABSENT : null;
+    }
+
+    private boolean isCovered(long epochDay) {
+        long wordIndex = Math.floorDiv(epochDay, DAYS_PER_WORD) - baseWord;
+        return wordIndex >= 0 && wordIndex < words.length;
+    }
+
+    private long codeAt(long epochDay) {
+        if (!isCovered(epochDay)) {
+            return UNMARKED;
+        }
+        int wordIndex = (int) (Math.floorDiv(epochDay, DAYS_PER_WORD) - baseWord);
+        int shift = Math.floorMod(epochDay, DAYS_PER_WORD) * BITS_PER_DAY;
+        return (words[wordIndex] >>> shift) & CODE_MASK;
+    }
+
+    /**
+     * Sets the code for {@code epochDay}, which must be covered, and returns the previous code.
+     */
+    private long setCode(long epochDay, long code) {
+        int wordIndex = (int) (Math.floorDiv(epochDay, DAYS_PER_WORD) - baseWord);
+        int shift = Math.floorMod(epochDay, DAYS_PER_WORD) * BITS_PER_DAY;
+        long previous = (words[wordIndex] >>> shift) & CODE_MASK;
+        words[wordIndex] = (words[wordIndex] & ~(CODE_MASK << shift)) | (code << shift);
+        if (previous == UNMARKED && code != UNMARKED) {
+            size++;
+        } else if (previous != UNMARKED && code == UNMARKED) {
+            size--;
+        }
+        return previous;
+    }
+
+    /**
+     * Grows {@code words} so that it covers {@code epochDay}.
+     */
+    private void ensureCovers(long epochDay) {
+        long word = Math.floorDiv(epochDay, DAYS_PER_WORD);
+        if (words.length == 0) {
+            baseWord = word;
+            words = new long[1];
+        } else if (word < baseWord) {
+            int extra = (int) (baseWord - word);
+            long[] grown = new long[words.length + extra];
+            System.arraycopy(words, 0, grown, extra, words.length);
+            words = grown;
+            baseWord = word;
+        } else if (word >= baseWord + words.length) {
+            words = Arrays.copyOf(words, (int) (word - baseWord + 1));
+        }
+    }
+
+    /**
+     * Returns true if both bitmaps record the same attendance on every day.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceBitmap otherBitmap)) {
+            return false;
+        }
+
+        if (size != otherBitmap.size) {
+            return false;
+        }
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != otherBitmap.wordAt(baseWord + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long wordAt(long word) {
+        long index = word - baseWord;
+        return index >= 0 && index < words.length ? words[(int) index] : 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != 0) {
+                hash += Long.hashCode(baseWord + i) * 31 + Long.hashCode(words[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toAttendanceRecords().toString();
+    }
+}
@@ -3,18 +3,22 @@ package seedu.address.model.student;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.AssignmentName;
 import seedu.address.model.assignment.AssignmentQuery;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceBitmap;
 import seedu.address.model.attendance.AttendanceRecord;
 
 /**
@@ -23,13 +27,27 @@ import seedu.address.model.attendance.AttendanceRecord;
  */
 public class Student {
 
+    private static final AtomicLong versionClock = new AtomicLong();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final TutorialGroup tutorialGroup;
     private final StudentNumber studentNumber;
     private final ObservableList<Assignment> assignments = FXCollections.observableArrayList();
-    private final ObservableList<AttendanceRecord> attendanceRecords = FXCollections.observableArrayList();
+    private AttendanceBitmap attendance = new AttendanceBitmap();
+    // True if the attendance bitmap may also belong to another student, in which case it is copied before a change
+    private boolean isAttendanceShared;
+
+    // Attendance records are only materialised from the bitmap when they are first requested, e.g. for display
+    private ObservableList<AttendanceRecord> attendanceRecords;
+    private ObservableList<AttendanceRecord> unmodifiableAttendanceRecords;
+    private NavigableMap<LocalDate, AttendanceRecord> attendanceRecordsByDate;
+
+    private long version = nextVersion();
+
+    // Assignments and attendance that have not been loaded yet, or null once they have been
+    private volatile StudentDetailsLoader pendingDetails;
 
     /**
      * Every field must be present and not null.
@@ -40,6 +58,18 @@ public class Student {
         this.phone = phone;
         this.tutorialGroup = tutorialGroup;
         this.studentNumber = studentNumber;
+        assignments.addListener((ListChangeListener<Assignment>) change -> version = nextVersion());
+    }
+
+    /**
+     * Creates a student whose assignments and attendance are loaded by {@code detailsLoader} when first needed.
+     * Loading them does not change the student's version.
+     */
+    public Student(Name name, Phone phone, TutorialGroup tutorialGroup, StudentNumber studentNumber,
+                   StudentDetailsLoader detailsLoader) {
+        this(name, phone, tutorialGroup, studentNumber);
+        requireAllNonNull(detailsLoader);
+        pendingDetails = detailsLoader;
     }
 
     /**
@@ -48,13 +78,60 @@ public class Student {
     public Student(Name name, Phone phone, TutorialGroup tutorialGroup,
                    StudentNumber studentNumber, ObservableList<Assignment> assignments,
                    List<AttendanceRecord> attendanceRecords) {
-        requireAllNonNull(name, phone, tutorialGroup, studentNumber, assignments, attendanceRecords);
-        this.name = name;
-        this.phone = phone;
-        this.tutorialGroup = tutorialGroup;
-        this.studentNumber = studentNumber;
+        this(name, phone, tutorialGroup, studentNumber);
+        requireAllNonNull(assignments, attendanceRecords);
         this.assignments.addAll(assignments);
-        this.attendanceRecords.addAll(attendanceRecords);
+        attendanceRecords.forEach(this::addAttendanceRecord);
+    }
+
+    /**
+     * Creates a student with the given identity fields and the assignments and attendance of {@code detailsSource}.
+     * The attendance is shared with {@code detailsSource} until either student changes it.
+     * (Used for EditStudentCommand)
+     */
+    public Student(Name name, Phone phone, TutorialGroup tutorialGroup, StudentNumber studentNumber,
+                   Student detailsSource) {
+        this(name, phone, tutorialGroup, studentNumber);
+        requireAllNonNull(detailsSource);
+        shareDetailsOf(detailsSource);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} whose assignments and attendance can be modified independently.
+     * The attendance is shared with {@code toBeCopied} until either student changes it.
+     */
+    public Student(Student toBeCopied) {
+        this(toBeCopied.name, toBeCopied.phone, toBeCopied.tutorialGroup, toBeCopied.studentNumber);
+        shareDetailsOf(toBeCopied);
+        version = toBeCopied.version;
+    }
+
+    /**
+     * Takes the assignments and attendance of {@code source}, sharing its attendance bitmap copy-on-write.
+     */
+    private void shareDetailsOf(Student source) {
+        StudentDetailsLoader detailsLoader = source.pendingDetails;
+        if (detailsLoader != null) {
+            pendingDetails = detailsLoader;
+            return;
+        }
+        long sharedVersion = version;
+        assignments.addAll(source.assignments);
+        attendance = source.attendance;
+        isAttendanceShared = true;
+        source.isAttendanceShared = true;
+        version = sharedVersion;
+    }
+
+    /**
+     * Returns the attendance bitmap of this student, first copying it if it may be shared with another student.
+     */
+    private AttendanceBitmap attendanceForWrite() {
+        if (isAttendanceShared) {
+            attendance = new AttendanceBitmap(attendance);
+            isAttendanceShared = false;
+        }
+        return attendance;
     }
 
     public Name getName() {
@@ -74,9 +151,48 @@ public class Student {
     }
 
     public ObservableList<Assignment> getAssignments() {
+        loadPendingDetails();
         return assignments;
     }
 
+    /**
+     * Returns a version stamp that increases whenever this student's assignments or attendance change.
+     * Stamps are unique across students, so two students with the same student number and version hold the same
+     * data. Copies made with {@link #Student(Student)} keep the stamp of the original.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private static long nextVersion() {
+        return versionClock.incrementAndGet();
+    }
+
+    /**
+     * Loads the assignments and attendance of this student if they have not been loaded yet.
+     */
+    private void loadPendingDetails() {
+        if (pendingDetails == null) {
+            return;
+        }
+        synchronized (this) {
+            StudentDetailsLoader detailsLoader = pendingDetails;
+            if (detailsLoader == null) {
+                return;
+            }
+            List<Assignment> loadedAssignments = new ArrayList<>();
+            AttendanceBitmap loadedAttendance = new AttendanceBitmap();
+            detailsLoader.load(loadedAssignments, loadedAttendance);
+
+            long loadedVersion = version;
+            assignments.setAll(loadedAssignments);
+            attendance = loadedAttendance;
+            isAttendanceShared = false;
+            version = loadedVersion;
+            pendingDetails = null;
+        }
+    }
+
     /**
      * Returns true if both students have the same student number.
      * This defines a weaker notion of equality between two students.
@@ -104,22 +220,33 @@ public class Student {
             return false;
         }
 
-        return otherStudent.name.equals(name)
+        boolean isSameIdentity = otherStudent.name.equals(name)
                 && otherStudent.phone.equals(phone)
                 && otherStudent.tutorialGroup.equals(tutorialGroup)
-                && otherStudent.studentNumber.equals(studentNumber)
-                && otherStudent.attendanceRecords.equals(attendanceRecords);
+                && otherStudent.studentNumber.equals(studentNumber);
+        if (!isSameIdentity) {
+            return false;
+        }
+        // Students with the same student number and version hold the same data, so nothing needs to be loaded
+        if (otherStudent.version == version) {
+            return true;
+        }
+
+        loadPendingDetails();
+        otherStudent.loadPendingDetails();
+        return otherStudent.attendance.equals(attendance);
     }
 
     @Override
     public String toString() {
+        loadPendingDetails();
         return new ToStringBuilder(this)
                 .add("name", name)
                 .add("contactNumber", phone)
                 .add("tutorialGroup", tutorialGroup)
                 .add("studentNumber", studentNumber)
                 .add("assignments", assignments)
-                .add("attendanceRecords", attendanceRecords)
+                .add("attendanceRecords", attendance)
                 .toString();
     }
     /**
@@ -130,31 +257,64 @@ public class Student {
      * @throws IllegalArgumentException if the provided status is invalid.
      */
     public void markAttendance(LocalDate date, String status) {
-        Attendance attendance = new Attendance(status);
-        for (AttendanceRecord ar : attendanceRecords) {
-            if (ar.getDate().equals(date)) {
-                ar.setAttendance(attendance);
-                return;
-            }
+        loadPendingDetails();
+        Attendance newAttendance = Attendance.of(status);
+        attendanceForWrite().put(date, newAttendance);
+        version = nextVersion();
+        if (attendanceRecords == null) {
+            return;
+        }
+        AttendanceRecord existingRecord = attendanceRecordsByDate.get(date);
+        if (existingRecord != null) {
+            existingRecord.setAttendance(newAttendance);
+            return;
         }
-        AttendanceRecord record = new AttendanceRecord(date, attendance);
+        AttendanceRecord record = new AttendanceRecord(date, newAttendance);
+        attendanceRecordsByDate.put(date, record);
         attendanceRecords.add(record);
         record.notifyListeners();
     }
 
     //getters
+    /**
+     * Returns an unmodifiable view of the attendance records.
+     * The records are materialised in date order on the first call; later records are appended as they are added.
+     */
     public ObservableList<AttendanceRecord> getAttendanceRecord() {
-        return attendanceRecords;
+        loadPendingDetails();
+        if (attendanceRecords == null) {
+            attendanceRecords = FXCollections.observableArrayList(attendance.toAttendanceRecords());
+            unmodifiableAttendanceRecords = FXCollections.unmodifiableObservableList(attendanceRecords);
+            attendanceRecordsByDate = new TreeMap<>();
+            attendanceRecords.forEach(record -> attendanceRecordsByDate.put(record.getDate(), record));
+        }
+        return unmodifiableAttendanceRecords;
+    }
+
+    /**
+     * Returns the attendance on the given date, or null if no attendance has been recorded for that date.
+     */
+    public Attendance getAttendance(LocalDate date) {
+        loadPendingDetails();
+        return attendance.get(date);
+    }
+
+    /**
+     * Performs {@code action} on the attendance of every recorded date, in date order,
+     * without materialising the attendance records.
+     */
+    public void forEachAttendance(BiConsumer<LocalDate, Attendance> action) {
+        loadPendingDetails();
+        attendance.forEach(action);
     }
 
+    /**
+     * Returns the attendance records as one line per record, in date order.
+     */
     public String getAttendanceRecordsString() {
-        List<AttendanceRecord> sortedRecords = attendanceRecords.stream()
-                .sorted(Comparator.comparing(AttendanceRecord::getDate))
-                .collect(Collectors.toList());
+        loadPendingDetails();
         StringBuilder sb = new StringBuilder();
-        for (AttendanceRecord record : sortedRecords) {
-            sb.append(record.toString()).append("\n");
-        }
+        attendance.forEach((date, status) -> sb.append(date).append(": ").append(status).append("\n"));
         return sb.toString();
     }
 
@@ -166,6 +326,7 @@ public class Student {
      */
     public boolean addAssignment(Assignment assignment) {
         requireAllNonNull(assignment);
+        loadPendingDetails();
 
         for (Assignment assignment1 : assignments) {
             if (assignment1.isSameAssignment(assignment)) {
@@ -185,6 +346,7 @@ public class Student {
      */
     public Assignment deleteAssignment(AssignmentName assignmentName) {
         requireAllNonNull(assignmentName);
+        loadPendingDetails();
         for (Assignment assignment : assignments) {
             if (assignment.getAssignmentName().equals(assignmentName)) {
                 assignments.remove(assignment);
@@ -201,6 +363,7 @@ public class Student {
      * @return the matching assignment
      */
     public Assignment getAssignment(AssignmentName assignmentName) {
+        loadPendingDetails();
         for (Assignment assignment : assignments) {
             if (assignment.getAssignmentName().equals(assignmentName)) {
                 return assignment;
@@ -217,6 +380,7 @@ public class Student {
      */
     public Assignment editAssignment(AssignmentName assignmentName, AssignmentQuery assignmentQuery) {
         requireAllNonNull(assignmentName);
+        loadPendingDetails();
         for (int i = 0; i < assignments.size(); i++) {
             Assignment assignment = assignments.get(i);
             if (assignment.getAssignmentName().equals(assignmentName)) {
@@ -228,27 +392,44 @@ public class Student {
     }
 
     /**
-     * Adds the attendance record to the attendance records
+     * Adds the attendance record to the attendance records.
+     * Replaces any existing record for the same date.
      *
      * @param ar A valid attendance record
      */
     public void addAttendanceRecord(AttendanceRecord ar) {
-        attendanceRecords.add(ar);
+        requireAllNonNull(ar);
+        loadPendingDetails();
+        attendanceForWrite().put(ar.getDate(), ar.getAttendance());
+        version = nextVersion();
+        if (attendanceRecords == null) {
+            return;
+        }
+        AttendanceRecord existingRecord = attendanceRecordsByDate.put(ar.getDate(), ar);
+        if (existingRecord == null) {
+            attendanceRecords.add(ar);
+        } else {
+            attendanceRecords.set(attendanceRecords.indexOf(existingRecord), ar);
+        }
     }
 
     /**
-     * Deletes the last attendance record in the list.
+     * Deletes the attendance record for the given date, if any.
      * @param date The date of the attendance record to be deleted.
      */
     public void deleteAttendance(LocalDate date) {
-        Iterator<AttendanceRecord> iterator = attendanceRecords.iterator();
-        while (iterator.hasNext()) {
-            AttendanceRecord record = iterator.next();
-            if (record.getDate().equals(date)) {
-                iterator.remove();
-                record.notifyListeners();
-                return;
-            }
+        loadPendingDetails();
+        if (attendance.get(date) != null) {
+            attendanceForWrite().remove(date);
+            version = nextVersion();
+        }
+        if (attendanceRecords == null) {
+            return;
+        }
+        AttendanceRecord record = attendanceRecordsByDate.remove(date);
+        if (record != null) {
+            attendanceRecords.remove(record);
+            record.notifyListeners();
         }
     }
 }
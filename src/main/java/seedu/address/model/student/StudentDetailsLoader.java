@@ -0,0 +1,20 @@
+package seedu.address.model.student;
+
+import java.util.List;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.attendance.AttendanceBitmap;
+
+/**
+ * Supplies the assignments and attendance of a {@code Student} when they are first needed,
+ * e.g. by decoding them from a data file that was not fully read at startup.
+ */
+@FunctionalInterface
+public interface StudentDetailsLoader {
+
+    /**
+     * Adds the student's assignments to {@code assignments} and their attendance to {@code attendance}.
+     * May be called more than once, e.g. for copies of the student, and must give the same details every time.
+     */
+    void load(List<Assignment> assignments, AttendanceBitmap attendance);
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Student} is one of a given list of students, compared by identity.
+ * The lookup takes constant time, so refreshing a filtered list with this predicate does not re-examine names.
+ */
+public class StudentInListPredicate implements Predicate<Student> {
+    private final Set<Student> students;
+
+    /**
+     * Creates a predicate matching exactly the student instances in {@code students}.
+     */
+    public StudentInListPredicate(List<Student> students) {
+        requireNonNull(students);
+        this.students = Collections.newSetFromMap(new IdentityHashMap<>(students.size()));
+        this.students.addAll(students);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return students.contains(student);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentInListPredicate)) {
+            return false;
+        }
+
+        StudentInListPredicate otherPredicate = (StudentInListPredicate) other;
+        return students.equals(otherPredicate.students);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("students", students).toString();
+    }
+}
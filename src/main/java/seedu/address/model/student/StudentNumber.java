@@ -2,6 +2,8 @@ package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiLetter;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
 
 /**
  * Represents a Person's student number in teletutor.
@@ -36,7 +38,8 @@ public class StudentNumber {
      * Returns true if a given string is a valid student number.
      */
     public static boolean isValidStudentNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 9 && isAsciiLetter(test.charAt(0)) && isDigits(test, 1, 8)
+                && isAsciiLetter(test.charAt(8));
     }
 
     @Override
@@ -2,6 +2,10 @@ package seedu.address.model.student;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiLetter;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
+
+import seedu.address.commons.util.Interner;
 
 
 
@@ -18,6 +22,8 @@ public class TutorialGroup {
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][0-9]{2}";
 
+    private static final Interner<TutorialGroup> INTERNER = new Interner<>();
+
     public final String value;
 
 
@@ -34,11 +40,20 @@ public class TutorialGroup {
 
 
 
+    /**
+     * Returns the shared {@code TutorialGroup} for {@code tutorialGroup}.
+     *
+     * @param tutorialGroup A valid tutorial group.
+     */
+    public static TutorialGroup of(String tutorialGroup) {
+        return INTERNER.intern(new TutorialGroup(tutorialGroup));
+    }
+
     /**
      * Returns true if a given string is a valid tutorial group.
      */
     public static boolean isValidTutorialGroup(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 3 && isAsciiLetter(test.charAt(0)) && isDigits(test, 1, 3);
     }
 
     @Override
@@ -58,4 +73,9 @@ public class TutorialGroup {
 
         return value.equals(otherTutorialGroup.value);
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
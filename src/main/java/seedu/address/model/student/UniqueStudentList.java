@@ -3,8 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,6 +17,7 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
  * A student is considered unique by comparing using {@code Student#isSameStudent(Student)}.
  * As such, adding and updating of students uses {@code Student#isSameStudent(Student)} for equality.
+ * Students are additionally indexed by {@code StudentNumber} so that identity lookups do not scan the list.
  *
  * @see Student#isSameStudent(Student)
  */
@@ -24,12 +27,28 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<StudentNumber, Student> studentsByNumber = new HashMap<>();
+    private final Map<StudentNumber, Integer> positions = new HashMap<>();
+
+    /**
+     * Positions at or after this index may be out of date after an insertion or removal in the middle of the list.
+     */
+    private int firstStalePosition = 0;
+
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByNumber.containsKey(toCheck.getStudentNumber());
+    }
+
+    /**
+     * Returns the student with the given student number, or null if there is no such student.
+     */
+    public Student get(StudentNumber studentNumber) {
+        requireNonNull(studentNumber);
+        return studentsByNumber.get(studentNumber);
     }
 
     /**
@@ -41,6 +60,8 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        studentsByNumber.put(toAdd.getStudentNumber(), toAdd);
+        positions.put(toAdd.getStudentNumber(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -54,6 +75,9 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(index, toAdd);
+        studentsByNumber.put(toAdd.getStudentNumber(), toAdd);
+        positions.put(toAdd.getStudentNumber(), index);
+        markStaleFrom(index);
     }
 
     /**
@@ -64,8 +88,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int index = indexOf(target);
+        if (index == -1 || !internalList.get(index).equals(target)) {
             throw new StudentNotFoundException();
         }
 
@@ -74,6 +98,10 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.set(index, editedStudent);
+        studentsByNumber.remove(target.getStudentNumber());
+        positions.remove(target.getStudentNumber());
+        studentsByNumber.put(editedStudent.getStudentNumber(), editedStudent);
+        positions.put(editedStudent.getStudentNumber(), index);
     }
 
     /**
@@ -83,14 +111,16 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public int remove(Student toRemove) {
         requireNonNull(toRemove);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSameStudent(toRemove)) {
-                internalList.remove(i);
-                return i;
-            }
+        int index = indexOf(toRemove);
+        if (index == -1 || !internalList.get(index).isSameStudent(toRemove)) {
+            throw new StudentNotFoundException();
         }
 
-        throw new StudentNotFoundException();
+        internalList.remove(index);
+        studentsByNumber.remove(toRemove.getStudentNumber());
+        positions.remove(toRemove.getStudentNumber());
+        markStaleFrom(index);
+        return index;
     }
 
     /**
@@ -99,6 +129,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public ObservableList<Student> removeAll() {
         ObservableList<Student> studentsToDelete = FXCollections.observableArrayList(internalList);
         internalList.clear();
+        clearIndex();
         return studentsToDelete;
     }
 
@@ -109,6 +140,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -122,6 +154,7 @@ public class UniqueStudentList implements Iterable<Student> {
         }
 
         internalList.setAll(students);
+        rebuildIndex();
     }
 
     /**
@@ -164,16 +197,62 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        Map<StudentNumber, Student> seen = new HashMap<>();
+        for (Student student : students) {
+            if (seen.put(student.getStudentNumber(), student) != null) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the position of the student with the same identity as {@code student}, or -1 if there is none.
+     */
+    private int indexOf(Student student) {
+        StudentNumber studentNumber = student.getStudentNumber();
+        Integer position = positions.get(studentNumber);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstStalePosition) {
+            refreshStalePositions();
+            position = positions.get(studentNumber);
+        }
+        return position;
+    }
+
+    /**
+     * Records that the positions of students at or after {@code index} have shifted.
+     */
+    private void markStaleFrom(int index) {
+        firstStalePosition = Math.min(firstStalePosition, index);
+    }
+
+    /**
+     * Recomputes the positions of all students at or after the first stale position.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getStudentNumber(), i);
+        }
+        firstStalePosition = internalList.size();
+    }
+
+    private void clearIndex() {
+        studentsByNumber.clear();
+        positions.clear();
+        firstStalePosition = 0;
+    }
+
+    private void rebuildIndex() {
+        clearIndex();
+        for (Student student : internalList) {
+            studentsByNumber.put(student.getStudentNumber(), student);
+        }
+        refreshStalePositions();
+    }
+
     public boolean isEmpty() {
         return internalList.isEmpty();
     }
@@ -0,0 +1,225 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.AssignmentName;
+import seedu.address.model.assignment.Deadline;
+import seedu.address.model.assignment.Grade;
+import seedu.address.model.assignment.Status;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Generates address books of made-up students for load testing.
+ * <p>
+ * The students only depend on the seed and the settings of the generator, so the same generator always generates
+ * the same address book. Each student is also generated on its own, so the first students of a larger address book
+ * are the same as the students of a smaller one generated with the same settings.
+ */
+public class AddressBookGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final int MAX_STUDENTS = 10_000_000;
+    public static final int MAX_TUTORIAL_GROUPS = 26 * 100;
+    public static final LocalDate TERM_START = LocalDate.of(2025, 1, 13);
+
+    private static final String[] GIVEN_NAMES = {
+        "Aaron", "Alice", "Amir", "Bernice", "Bryan", "Charlotte", "Chen Wei", "Darren", "Divya", "Elijah",
+        "Farah", "Gabriel", "Hana", "Irfan", "Jia Hui", "Kavya", "Liam", "Mei Ling", "Nadia", "Oliver",
+        "Priya", "Qi Xuan", "Rachel", "Siddharth", "Tan Wei", "Umairah", "Vivian", "Wei Jie", "Xin Yi", "Zachary"
+    };
+    private static final String[] FAMILY_NAMES = {
+        "Ang", "Chua", "Goh", "Ho", "Ismail", "Koh", "Kumar", "Lee", "Lim", "Menon",
+        "Ng", "Ong", "Pillai", "Rahman", "Seah", "Tan", "Teo", "Wong", "Yeo", "Zhang"
+    };
+    private static final String[] ASSIGNMENT_KINDS = {"Lab", "Tutorial", "Quiz", "Problem Set"};
+    private static final String CHECK_LETTERS = "ABEHJLMNRUWXY";
+    // Multiplier that maps student indices below MAX_STUDENTS to distinct numbers below MAX_STUDENTS
+    private static final long STUDENT_NUMBER_MULTIPLIER = 7_654_321;
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private long seed = DEFAULT_SEED;
+    private int studentCount = 100;
+    private int tutorialGroupCount = 10;
+    private int assignmentsPerStudent = 5;
+    private int attendanceSessions = 13;
+    private double gradeMean = 70;
+    private double gradeStandardDeviation = 12;
+    private double submissionRate = 0.9;
+    private double attendanceRate = 0.85;
+
+    /**
+     * Sets the seed that the students are generated from.
+     */
+    public AddressBookGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of students to generate.
+     */
+    public AddressBookGenerator withStudents(int studentCount) {
+        checkArgument(studentCount >= 0 && studentCount <= MAX_STUDENTS,
+                "Number of students should be between 0 and " + MAX_STUDENTS);
+        this.studentCount = studentCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of tutorial groups that the students are spread across.
+     */
+    public AddressBookGenerator withTutorialGroups(int tutorialGroupCount) {
+        checkArgument(tutorialGroupCount >= 1 && tutorialGroupCount <= MAX_TUTORIAL_GROUPS,
+                "Number of tutorial groups should be between 1 and " + MAX_TUTORIAL_GROUPS);
+        this.tutorialGroupCount = tutorialGroupCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of assignments that every student has, with weekly deadlines from the start of the term.
+     */
+    public AddressBookGenerator withAssignmentsPerStudent(int assignmentsPerStudent) {
+        checkArgument(assignmentsPerStudent >= 0, "Number of assignments should not be negative");
+        this.assignmentsPerStudent = assignmentsPerStudent;
+        return this;
+    }
+
+    /**
+     * Sets the number of weekly sessions, from the start of the term, that every student has attendance for.
+     */
+    public AddressBookGenerator withAttendanceSessions(int attendanceSessions) {
+        checkArgument(attendanceSessions >= 0, "Number of attendance sessions should not be negative");
+        this.attendanceSessions = attendanceSessions;
+        return this;
+    }
+
+    /**
+     * Sets the mean of the normal distribution that the grades of submitted assignments are drawn from.
+     * Grades outside 0 to 100 are clamped to that range.
+     */
+    public AddressBookGenerator withGradeMean(double gradeMean) {
+        this.gradeMean = gradeMean;
+        return this;
+    }
+
+    /**
+     * Sets the standard deviation of the normal distribution that the grades of submitted assignments are drawn from.
+     */
+    public AddressBookGenerator withGradeStandardDeviation(double gradeStandardDeviation) {
+        checkArgument(gradeStandardDeviation >= 0, "Standard deviation of grades should not be negative");
+        this.gradeStandardDeviation = gradeStandardDeviation;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of assignments that are submitted. Only submitted assignments are graded.
+     */
+    public AddressBookGenerator withSubmissionRate(double submissionRate) {
+        checkArgument(submissionRate >= 0 && submissionRate <= 1, "Submission rate should be between 0 and 1");
+        this.submissionRate = submissionRate;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of sessions that students are present for.
+     */
+    public AddressBookGenerator withAttendanceRate(double attendanceRate) {
+        checkArgument(attendanceRate >= 0 && attendanceRate <= 1, "Attendance rate should be between 0 and 1");
+        this.attendanceRate = attendanceRate;
+        return this;
+    }
+
+    /**
+     * Returns an address book of the generated students.
+     */
+    public AddressBook generate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(generateStudents());
+        return addressBook;
+    }
+
+    /**
+     * Returns the generated students.
+     */
+    public List<Student> generateStudents() {
+        List<Student> students = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            students.add(generateStudent(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the {@code index}-th generated student. Students of different indices have different student numbers,
+     * so {@code index} may also be the number of students, to get a student who is not in the address book.
+     */
+    public Student generateStudent(int index) {
+        checkArgument(index >= 0 && index < MAX_STUDENTS, "Index should be between 0 and " + (MAX_STUDENTS - 1));
+        SplittableRandom random = new SplittableRandom(seed + index * SEED_INCREMENT);
+        Name name = new Name(GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]);
+        Phone phone = new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10_000_000)));
+        TutorialGroup tutorialGroup = getTutorialGroup(random.nextInt(tutorialGroupCount));
+        long number = Math.floorMod(index * STUDENT_NUMBER_MULTIPLIER + Math.floorMod(seed, MAX_STUDENTS),
+                MAX_STUDENTS);
+        StudentNumber studentNumber = new StudentNumber(String.format("A%07d%c", number,
+                CHECK_LETTERS.charAt(random.nextInt(CHECK_LETTERS.length()))));
+
+        Student student = new Student(name, phone, tutorialGroup, studentNumber);
+        for (int i = 0; i < assignmentsPerStudent; i++) {
+            student.addAssignment(generateAssignment(i, random));
+        }
+        for (int i = 0; i < attendanceSessions; i++) {
+            student.markAttendance(TERM_START.plusWeeks(i), random.nextDouble() < attendanceRate ? "p" : "a");
+        }
+        return student;
+    }
+
+    /**
+     * Returns the {@code index}-th of the tutorial groups A00, A01, ..., A99, B00, ...
+     */
+    public static TutorialGroup getTutorialGroup(int index) {
+        checkArgument(index >= 0 && index < MAX_TUTORIAL_GROUPS,
+                "Index should be between 0 and " + (MAX_TUTORIAL_GROUPS - 1));
+        return TutorialGroup.of(String.format("%c%02d", (char) ('A' + index / 100), index % 100));
+    }
+
+    private Assignment generateAssignment(int index, SplittableRandom random) {
+        AssignmentName assignmentName = AssignmentName.of(ASSIGNMENT_KINDS[index % ASSIGNMENT_KINDS.length] + " "
+                + (index / ASSIGNMENT_KINDS.length + 1));
+        Deadline deadline = new Deadline(TERM_START.plusWeeks(index + 1));
+        if (random.nextDouble() >= submissionRate) {
+            return new Assignment(assignmentName, deadline, Status.NOT_SUBMITTED, Grade.getDefault());
+        }
+        double grade = gradeMean + random.nextGaussian() * gradeStandardDeviation;
+        grade = Math.round(Math.min(100, Math.max(0, grade)) * 10) / 10.0;
+        return new Assignment(assignmentName, deadline, Status.SUBMITTED, new Grade(grade));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("seed", seed)
+                .add("studentCount", studentCount)
+                .add("tutorialGroupCount", tutorialGroupCount)
+                .add("assignmentsPerStudent", assignmentsPerStudent)
+                .add("attendanceSessions", attendanceSessions)
+                .add("gradeMean", gradeMean)
+                .add("gradeStandardDeviation", gradeStandardDeviation)
+                .add("submissionRate", submissionRate)
+                .add("attendanceRate", attendanceRate)
+                .toString();
+    }
+}
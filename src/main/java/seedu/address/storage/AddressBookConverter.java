@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data from one storage format to another.
+ */
+public class AddressBookConverter {
+
+    public static final String RETIRED_FILE_SUFFIX = ".old";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    private AddressBookConverter() {} // prevents instantiation
+
+    /**
+     * Copies the address book in {@code source} into {@code target}, unless {@code target} already has a data file
+     * or {@code source} has none.
+     *
+     * @return true if the address book was copied.
+     * @throws DataLoadingException if reading from {@code source} failed.
+     * @throws IOException if writing to {@code target} failed.
+     */
+    public static boolean convertIfMissing(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        if (Files.exists(target.getAddressBookFilePath())) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Copies the address book in {@code source} into {@code target}, replacing any data {@code target} already has,
+     * and then retires {@code staleFiles}, which should be the files of {@code source} that {@code target} does not
+     * use. Nothing is copied or retired if {@code source} has no data file.
+     *
+     * @return true if the address book was copied.
+     * @throws DataLoadingException if reading from {@code source} failed.
+     * @throws IOException if writing to {@code target} failed.
+     * @see #retire(Path)
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target, Collection<Path> staleFiles)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(staleFiles);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        for (Path staleFile : staleFiles) {
+            retire(staleFile);
+        }
+        return true;
+    }
+
+    /**
+     * Renames {@code file}, if it exists, by appending {@link #RETIRED_FILE_SUFFIX} to its name, so that it is no
+     * longer read as data but can still be recovered by hand. An earlier retired copy of the file is replaced.
+     * Failing to do so is only logged, since the data has already been copied elsewhere.
+     */
+    public static void retire(Path file) {
+        requireNonNull(file);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Files.move(file, getRetiredFilePath(file), StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Retired " + file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to retire " + file + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns the location {@code file} is moved to when it is retired.
+     */
+    public static Path getRetiredFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + RETIRED_FILE_SUFFIX);
+    }
+}
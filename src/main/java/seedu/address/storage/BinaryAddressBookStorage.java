@@ -0,0 +1,697 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.AddAssignmentCommand.MESSAGE_DUPLICATE_ASSIGNMENT_FOUND;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.AssignmentName;
+import seedu.address.model.assignment.Deadline;
+import seedu.address.model.assignment.Grade;
+import seedu.address.model.assignment.Status;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceBitmap;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentDetailsLoader;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a dictionary of tutorial groups, a
+ * dictionary of assignment names and the students. Each student is a length-prefixed record that refers to its
+ * tutorial group and assignment names by their position in the dictionaries, stores dates as epoch days and
+ * stores attendance as 2-bit codes for every day from its first to its last marked day.
+ * Everything in a json address book is kept, so converting between the two formats loses nothing.
+ * <p>
+ * A lazy storage maps the file instead of reading it, and decodes only the identity of each student up front;
+ * the assignments and attendance of a student are decoded from the mapping the first time they are used. The rest
+ * of each record is only checked for its lengths, dictionary references and value ranges when the file is read,
+ * without creating any objects, so a corrupt file is still rejected then rather than when a student is first used.
+ * Saving replaces the file rather than writing into it, so the mapping keeps seeing the data it was read from. On
+ * platforms that cannot replace a mapped file, the mapping is first copied onto the heap and released.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x54544142; // "TTAB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "Student refers to missing %s %d.";
+    public static final String MESSAGE_INVALID_RECORD_LENGTH =
+            "Student record has length %d but only %d bytes are used.";
+    public static final String MESSAGE_CORRUPT_DETAILS = "Assignments and attendance of %s could not be read.";
+    public static final String MESSAGE_INVALID_DATE = "Date %d days after 1970-01-01 is out of range.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int UNMARKED = 0;
+    private static final int PRESENT = 1;
+    private static final int ABSENT = 2;
+    private static final int CODES_PER_BYTE = 4;
+    // Name index, deadline, submission status and grade flag
+    private static final int MIN_ASSIGNMENT_LENGTH = 7;
+
+    private final Path filePath;
+    private final boolean isLazy;
+    private final List<MappedFile> mappedFiles = new ArrayList<>();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}.
+     *
+     * @param isLazy whether the details of each student are decoded from a mapping of the file when first used.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isLazy = isLazy;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the binary file to use in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * @param filePath location of the data. Cannot be null.
+     * @return Optional.empty if the file does not exist.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(isLazy ? readLazyAddressBook(filePath) : readStreamedAddressBook(filePath));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written to a temporary file that then replaces the file at {@code filePath}.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            writeAddressBook(addressBook, out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+
+        try {
+            replace(tempFilePath, filePath);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot replace a file that is still mapped
+            try {
+                if (!releaseMappings(filePath)) {
+                    throw e;
+                }
+                replace(tempFilePath, filePath);
+            } catch (IOException retryException) {
+                Files.deleteIfExists(tempFilePath);
+                throw retryException;
+            }
+        }
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Copies the mappings of {@code filePath} made by this storage onto the heap and releases them, so that the
+     * file can be replaced. Students read from the mappings keep decoding their details from the copies.
+     *
+     * @return true if there were any such mappings.
+     */
+    synchronized boolean releaseMappings(Path filePath) {
+        Path absolutePath = filePath.toAbsolutePath().normalize();
+        boolean hasReleased = false;
+        for (Iterator<MappedFile> iterator = mappedFiles.iterator(); iterator.hasNext();) {
+            MappedFile mappedFile = iterator.next();
+            if (mappedFile.path.equals(absolutePath)) {
+                mappedFile.release();
+                iterator.remove();
+                hasReleased = true;
+            }
+        }
+        return hasReleased;
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Student> students = addressBook.getStudentList();
+        Map<TutorialGroup, Integer> tutorialGroups = new HashMap<>();
+        Map<AssignmentName, Integer> assignmentNames = new HashMap<>();
+        List<String> tutorialGroupDictionary = new ArrayList<>();
+        List<String> assignmentNameDictionary = new ArrayList<>();
+        for (Student student : students) {
+            if (tutorialGroups.putIfAbsent(student.getTutorialGroup(), tutorialGroups.size()) == null) {
+                tutorialGroupDictionary.add(student.getTutorialGroup().value);
+            }
+            for (Assignment assignment : student.getAssignments()) {
+                if (assignmentNames.putIfAbsent(assignment.getAssignmentName(), assignmentNames.size()) == null) {
+                    assignmentNameDictionary.add(assignment.getAssignmentName().fullName);
+                }
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeDictionary(tutorialGroupDictionary, out);
+        writeDictionary(assignmentNameDictionary, out);
+        writeVarInt(students.size(), out);
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Student student : students) {
+            recordBytes.reset();
+            writeStudent(student, tutorialGroups, assignmentNames, record);
+            writeVarInt(recordBytes.size(), out);
+            recordBytes.writeTo(out);
+        }
+    }
+
+    private static void writeStudent(Student student, Map<TutorialGroup, Integer> tutorialGroups,
+            Map<AssignmentName, Integer> assignmentNames, DataOutput out) throws IOException {
+        out.writeUTF(student.getName().fullName);
+        out.writeUTF(student.getPhone().value);
+        out.writeUTF(student.getStudentNumber().value);
+        writeVarInt(tutorialGroups.get(student.getTutorialGroup()), out);
+
+        writeVarInt(student.getAssignments().size(), out);
+        for (Assignment assignment : student.getAssignments()) {
+            writeVarInt(assignmentNames.get(assignment.getAssignmentName()), out);
+            out.writeInt((int) assignment.getDeadline().deadline.toEpochDay());
+            out.writeBoolean(assignment.getSubmissionStatus().isSubmitted());
+            Optional<Double> grade = assignment.getGrade().grade;
+            out.writeBoolean(grade.isPresent());
+            if (grade.isPresent()) {
+                out.writeDouble(grade.get());
+            }
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        List<Attendance> attendances = new ArrayList<>();
+        student.forEachAttendance((date, attendance) -> {
+            dates.add(date);
+            attendances.add(attendance);
+        });
+        if (dates.isEmpty()) {
+            writeVarInt(0, out);
+            return;
+        }
+        long firstDay = dates.get(0).toEpochDay();
+        int dayCount = (int) (dates.get(dates.size() - 1).toEpochDay() - firstDay + 1);
+        byte[] codes = new byte[(dayCount + CODES_PER_BYTE - 1) / CODES_PER_BYTE];
+        for (int i = 0; i < dates.size(); i++) {
+            int day = (int) (dates.get(i).toEpochDay() - firstDay);
+            int code = attendances.get(i).equals(Attendance.PRESENT) ? PRESENT : ABSENT;
+            codes[day / CODES_PER_BYTE] |= (byte) (code << (2 * (day % CODES_PER_BYTE)));
+        }
+        writeVarInt(dayCount, out);
+        out.writeInt((int) firstDay);
+        out.write(codes);
+    }
+
+    private static AddressBook readStreamedAddressBook(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            return decodeAddressBook(in);
+        }
+    }
+
+    private AddressBook readLazyAddressBook(Path filePath) throws IOException, IllegalValueException {
+        MappedFile mappedFile;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            mappedFile = new MappedFile(filePath.toAbsolutePath().normalize(),
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        AddressBook addressBook = readAddressBookLazily(mappedFile);
+        synchronized (this) {
+            mappedFiles.add(mappedFile);
+        }
+        return addressBook;
+    }
+
+    private static AddressBook decodeAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        readHeader(in);
+        List<TutorialGroup> tutorialGroups = readTutorialGroups(in);
+        List<AssignmentName> assignmentNames = readAssignmentNames(in);
+
+        AddressBook addressBook = new AddressBook();
+        int studentCount = readVarInt(in);
+        for (int i = 0; i < studentCount; i++) {
+            byte[] record = new byte[readVarInt(in)];
+            in.readFully(record);
+            ByteArrayInputStream recordBytes = new ByteArrayInputStream(record);
+            DataInputStream recordIn = new DataInputStream(recordBytes);
+
+            Student student = readStudentIdentity(recordIn, tutorialGroups);
+            for (Assignment assignment : readAssignments(recordIn, assignmentNames, student.getName())) {
+                student.addAssignment(assignment);
+            }
+            readAttendance(recordIn, (date, attendance) ->
+                    student.addAttendanceRecord(new AttendanceRecord(date, attendance)));
+            if (recordBytes.available() != 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD_LENGTH,
+                        record.length, record.length - recordBytes.available()));
+            }
+            addStudent(addressBook, student);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the address book in {@code mappedFile}, creating only the identity fields of each student.
+     * The rest of each record is checked by {@link #checkDetails}, and the assignments and attendance of each student
+     * are decoded from {@code mappedFile} when first needed.
+     */
+    private static AddressBook readAddressBookLazily(MappedFile mappedFile)
+            throws IOException, IllegalValueException {
+        ByteBuffer buffer = mappedFile.bytes.duplicate();
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+        readHeader(in);
+        List<TutorialGroup> tutorialGroups = readTutorialGroups(in);
+        List<AssignmentName> assignmentNames = readAssignmentNames(in);
+
+        AddressBook addressBook = new AddressBook();
+        int studentCount = readVarInt(in);
+        for (int i = 0; i < studentCount; i++) {
+            int recordLength = readVarInt(in);
+            if (recordLength < 0 || recordLength > buffer.remaining()) {
+                throw new EOFException("Student record extends past the end of the file");
+            }
+            ByteBuffer record = buffer.duplicate();
+            record.limit(buffer.position() + recordLength);
+            DataInputStream recordIn = new DataInputStream(new ByteBufferInputStream(record));
+
+            Student identity = readStudentIdentity(recordIn, tutorialGroups);
+            int detailsStart = record.position();
+            checkDetails(recordIn, record, assignmentNames, identity.getName());
+            if (record.hasRemaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD_LENGTH,
+                        recordLength, recordLength - record.remaining()));
+            }
+
+            Student student = new Student(identity.getName(), identity.getPhone(), identity.getTutorialGroup(),
+                    identity.getStudentNumber(), new LazyStudentDetails(mappedFile, detailsStart, record.limit(),
+                    assignmentNames, identity.getName()));
+            buffer.position(record.limit());
+            addStudent(addressBook, student);
+        }
+        return addressBook;
+    }
+
+    private static void addStudent(AddressBook addressBook, Student student) throws IllegalValueException {
+        if (addressBook.hasStudent(student)) {
+            throw new IllegalValueException(JsonSerializableStudentAddressBook.MESSAGE_DUPLICATE_STUDENT);
+        }
+        addressBook.addStudent(student);
+    }
+
+    private static void readHeader(DataInput in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private static List<TutorialGroup> readTutorialGroups(DataInput in) throws IOException {
+        List<TutorialGroup> tutorialGroups = new ArrayList<>();
+        for (String tutorialGroup : readDictionary(in)) {
+            tutorialGroups.add(TutorialGroup.of(tutorialGroup));
+        }
+        return tutorialGroups;
+    }
+
+    private static List<AssignmentName> readAssignmentNames(DataInput in) throws IOException {
+        List<AssignmentName> assignmentNames = new ArrayList<>();
+        for (String assignmentName : readDictionary(in)) {
+            assignmentNames.add(AssignmentName.of(assignmentName));
+        }
+        return assignmentNames;
+    }
+
+    /**
+     * Returns a student with the name, phone, student number and tutorial group read from {@code in},
+     * and no assignments or attendance.
+     */
+    private static Student readStudentIdentity(DataInput in, List<TutorialGroup> tutorialGroups)
+            throws IOException, IllegalValueException {
+        Name name = new Name(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        StudentNumber studentNumber = new StudentNumber(in.readUTF());
+        TutorialGroup tutorialGroup = lookUp(tutorialGroups, readVarInt(in), "tutorial group");
+        return new Student(name, phone, tutorialGroup, studentNumber);
+    }
+
+    private static List<Assignment> readAssignments(DataInput in, List<AssignmentName> assignmentNames,
+            Name studentName) throws IOException, IllegalValueException {
+        int assignmentCount = readVarInt(in);
+        List<Assignment> assignments = new ArrayList<>();
+        Set<AssignmentName> seenNames = new HashSet<>();
+        for (int i = 0; i < assignmentCount; i++) {
+            AssignmentName assignmentName = lookUp(assignmentNames, readVarInt(in), "assignment name");
+            Deadline deadline = new Deadline(toDate(in.readInt()));
+            Status status = in.readBoolean() ? Status.SUBMITTED : Status.NOT_SUBMITTED;
+            Grade grade = in.readBoolean() ? new Grade(in.readDouble()) : Grade.getDefault();
+            if (!seenNames.add(assignmentName)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ASSIGNMENT_FOUND,
+                        assignmentName, studentName));
+            }
+            assignments.add(new Assignment(assignmentName, deadline, status, grade));
+        }
+        return assignments;
+    }
+
+    /**
+     * Reads past the assignments and attendance in {@code in}, which reads from {@code record}, checking everything
+     * that {@link #readAssignments} and {@link #readAttendance} check but without creating any objects for them.
+     */
+    private static void checkDetails(DataInput in, ByteBuffer record, List<AssignmentName> assignmentNames,
+            Name studentName) throws IOException, IllegalValueException {
+        int assignmentCount = readVarInt(in);
+        if (assignmentCount < 0 || assignmentCount > record.remaining() / MIN_ASSIGNMENT_LENGTH) {
+            throw new EOFException("Assignments extend past the end of the student record");
+        }
+        int[] nameIndices = new int[assignmentCount];
+        for (int i = 0; i < assignmentCount; i++) {
+            nameIndices[i] = readVarInt(in);
+            AssignmentName assignmentName = lookUp(assignmentNames, nameIndices[i], "assignment name");
+            for (int j = 0; j < i; j++) {
+                if (nameIndices[j] == nameIndices[i]) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ASSIGNMENT_FOUND,
+                            assignmentName, studentName));
+                }
+            }
+            in.readInt(); // deadline, which any int is a valid epoch day for
+            in.readBoolean();
+            if (in.readBoolean()) {
+                double grade = in.readDouble();
+                if (!(grade >= 0 && grade <= 100)) {
+                    throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
+                }
+            }
+        }
+
+        int dayCount = readVarInt(in);
+        if (dayCount == 0) {
+            return;
+        }
+        in.readInt();
+        int codeLength = (dayCount + CODES_PER_BYTE - 1) / CODES_PER_BYTE;
+        if (dayCount < 0 || codeLength > record.remaining()) {
+            throw new EOFException("Attendance extends past the end of the student record");
+        }
+        for (int i = 0; i < codeLength; i++) {
+            int codes = in.readUnsignedByte();
+            // the only invalid code, 0b11, is the only one with both of its bits set
+            if ((codes & (codes >>> 1) & 0b01010101) != 0) {
+                throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+            }
+        }
+    }
+
+    private static void readAttendance(DataInput in, BiConsumer<LocalDate, Attendance> action)
+            throws IOException, IllegalValueException {
+        int dayCount = readVarInt(in);
+        if (dayCount == 0) {
+            return;
+        }
+        long firstDay = in.readInt();
+        byte[] codes = new byte[(dayCount + CODES_PER_BYTE - 1) / CODES_PER_BYTE];
+        in.readFully(codes);
+        for (int day = 0; day < dayCount; day++) {
+            int code = (codes[day / CODES_PER_BYTE] >> (2 * (day % CODES_PER_BYTE))) & 0b11;
+            if (code == PRESENT) {
+                action.accept(toDate(firstDay + day), Attendance.PRESENT);
+            } else if (code == ABSENT) {
+                action.accept(toDate(firstDay + day), Attendance.ABSENT);
+            } else if (code != UNMARKED) {
+                throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+            }
+        }
+    }
+
+    /**
+     * Returns the date {@code epochDay} days after 1970-01-01.
+     * @throws IllegalValueException if the date is out of the range of {@code LocalDate}.
+     */
+    private static LocalDate toDate(long epochDay) throws IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATE, epochDay));
+        }
+    }
+
+    private static <T> T lookUp(List<T> dictionary, int index, String entryName) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, entryName, index));
+        }
+        return dictionary.get(index);
+    }
+
+    private static void writeDictionary(List<String> entries, DataOutput out) throws IOException {
+        writeVarInt(entries.size(), out);
+        for (String entry : entries) {
+            out.writeUTF(entry);
+        }
+    }
+
+    private static List<String> readDictionary(DataInput in) throws IOException {
+        int size = readVarInt(in);
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            entries.add(in.readUTF());
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible, seven bits at a time.
+     */
+    private static void writeVarInt(int value, DataOutput out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Malformed variable-length integer");
+    }
+
+    /**
+     * The bytes of a data file that student details are decoded from. The bytes start out as a mapping of the file,
+     * and are replaced by a copy on the heap when the mapping is released.
+     */
+    private static class MappedFile {
+        private final Path path;
+        private ByteBuffer bytes;
+
+        MappedFile(Path path, ByteBuffer bytes) {
+            this.path = path;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Copies the mapped bytes onto the heap and unmaps them.
+         * Callers must hold the lock of this object while they read {@link #bytes}, so that no read is in progress.
+         */
+        synchronized void release() {
+            ByteBuffer mappedBytes = bytes;
+            bytes = ByteBuffer.allocate(mappedBytes.capacity()).put(mappedBytes.duplicate().clear());
+            unmap(mappedBytes);
+        }
+
+        /**
+         * Unmaps {@code mappedBytes} right away, which is only possible through an unsupported JDK method. If that
+         * method is not available, the mapping is released when {@code mappedBytes} is garbage collected instead.
+         */
+        private static void unmap(ByteBuffer mappedBytes) {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+                unsafeField.setAccessible(true);
+                unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafeField.get(null), mappedBytes);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warning("Could not unmap data file, it stays mapped until garbage collected: " + e);
+            }
+        }
+    }
+
+    /**
+     * Decodes the assignments and attendance of a student from their place in a mapped data file.
+     * The record has been checked when the file was read, so decoding it is not expected to fail.
+     */
+    private static class LazyStudentDetails implements StudentDetailsLoader {
+        private final MappedFile mappedFile;
+        private final int start;
+        private final int end;
+        private final List<AssignmentName> assignmentNames;
+        private final Name studentName;
+
+        LazyStudentDetails(MappedFile mappedFile, int start, int end, List<AssignmentName> assignmentNames,
+                Name studentName) {
+            this.mappedFile = mappedFile;
+            this.start = start;
+            this.end = end;
+            this.assignmentNames = assignmentNames;
+            this.studentName = studentName;
+        }
+
+        @Override
+        public void load(List<Assignment> assignments, AttendanceBitmap attendance) {
+            synchronized (mappedFile) {
+                ByteBuffer details = mappedFile.bytes.duplicate();
+                details.position(start).limit(end);
+                DataInputStream in = new DataInputStream(new ByteBufferInputStream(details));
+                try {
+                    assignments.addAll(readAssignments(in, assignmentNames, studentName));
+                    readAttendance(in, attendance::put);
+                    if (details.hasRemaining()) {
+                        throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD_LENGTH,
+                                end - start, details.position() - start));
+                    }
+                } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+                    logger.severe("Could not decode details of " + studentName + ": " + e.getMessage());
+                    throw new IllegalStateException(String.format(MESSAGE_CORRUPT_DETAILS, studentName), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads bytes from a {@code ByteBuffer}, advancing its position.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshotter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Each save appends one line to the journal holding only the students that were added, changed or removed since
+ * the previous save. Reading replays the journal on top of the snapshot. Once the journal grows past
+ * {@code compactionThresholdBytes}, a fresh snapshot is written on a background thread and the journal entries it
+ * includes are dropped. The snapshot is an ordinary json address book, so it can also be read by
+ * {@link JsonStudentAddressBookStorage}, although changes still in the journal will then be missing.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+
+    private final Path filePath;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AddressBookSnapshotter snapshotter = new AddressBookSnapshotter();
+
+    // What is on disk at persistedPath, in list order. Null until that file has been read or saved in full.
+    private Path persistedPath;
+    private Map<StudentNumber, Long> persistedVersions;
+    private long lastSequence;
+    private long snapshotSequence;
+    private long journalBytes;
+    private Future<?> compaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal once it is larger than
+     * {@code compactionThresholdBytes}.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * @param filePath location of the snapshot. Cannot be null.
+     * @return Optional.empty if the snapshot does not exist.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<JsonSerializableJournalSnapshot> snapshot =
+                JsonUtil.readJsonFile(filePath, JsonSerializableJournalSnapshot.class);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Student> students = new ArrayList<>(snapshot.get().toModelType().getStudentList());
+            long sequence = snapshot.get().getJournalSequence();
+            int replayedCount = 0;
+            for (JsonAdaptedJournalEntry entry : readJournal(filePath)) {
+                if (entry.getSequence() <= sequence) {
+                    continue;
+                }
+                entry.applyTo(students);
+                sequence = entry.getSequence();
+                replayedCount++;
+            }
+            logger.fine("Replayed " + replayedCount + " journal entries on top of " + filePath);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setStudents(students);
+            persistedPath = filePath;
+            persistedVersions = versionsOf(addressBook);
+            lastSequence = sequence;
+            snapshotSequence = snapshot.get().getJournalSequence();
+            journalBytes = sizeOf(getJournalFilePath(filePath));
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.info("Journal of " + filePath + " could not be read: " + ioe.getMessage());
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only appends to the journal if the data at {@code filePath} is known from an earlier read or save;
+     * otherwise a full snapshot is written.
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonAdaptedJournalEntry entry = filePath.equals(persistedPath) ? diff(addressBook) : null;
+        if (entry == null) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+        if (entry.isEmpty()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        append(getJournalFilePath(filePath), line);
+        lastSequence = entry.getSequence();
+        persistedVersions = versionsOf(addressBook);
+        journalBytes += line.length;
+
+        if (journalBytes > compactionThresholdBytes && (compaction == null || compaction.isDone())) {
+            ReadOnlyAddressBook snapshot = snapshotter.takeSnapshot(addressBook);
+            long sequence = lastSequence;
+            long compactedBytes = journalBytes;
+            compaction = compactor.submit(() -> compact(snapshot, sequence, compactedBytes, filePath));
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress to complete.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        Future<?> pendingCompaction;
+        synchronized (this) {
+            pendingCompaction = compaction;
+        }
+        if (pendingCompaction != null) {
+            pendingCompaction.get();
+        }
+    }
+
+    /**
+     * Returns the changes from the persisted data to {@code addressBook}, or null if they cannot be written as a
+     * journal entry because students that did not change have been reordered.
+     */
+    private JsonAdaptedJournalEntry diff(ReadOnlyAddressBook addressBook) {
+        List<Student> studentList = addressBook.getStudentList();
+        Map<StudentNumber, Long> currentVersions = versionsOf(addressBook);
+        List<StudentNumber> unchanged = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        List<Student> changed = new ArrayList<>();
+        for (int i = 0; i < studentList.size(); i++) {
+            Student student = studentList.get(i);
+            if (currentVersions.get(student.getStudentNumber()).equals(
+                    persistedVersions.get(student.getStudentNumber()))) {
+                unchanged.add(student.getStudentNumber());
+            } else {
+                indices.add(i);
+                changed.add(student);
+            }
+        }
+
+        List<StudentNumber> removed = new ArrayList<>();
+        Iterator<StudentNumber> unchangedIterator = unchanged.iterator();
+        for (Map.Entry<StudentNumber, Long> persisted : persistedVersions.entrySet()) {
+            Long currentVersion = currentVersions.get(persisted.getKey());
+            if (currentVersion == null) {
+                removed.add(persisted.getKey());
+            } else if (currentVersion.equals(persisted.getValue())
+                    && !persisted.getKey().equals(unchangedIterator.next())) {
+                return null;
+            }
+        }
+        return new JsonAdaptedJournalEntry(lastSequence + 1, removed, indices, changed);
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code addressBook} and starts a new journal.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!filePath.equals(persistedPath)) {
+            // Entries left in the journal by an earlier session must not be replayed on top of the new snapshot
+            lastSequence = Math.max(lastSequence, lastSequenceIn(filePath));
+        }
+        writeAtomically(filePath, filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX),
+                JsonUtil.toJsonString(new JsonSerializableJournalSnapshot(addressBook, lastSequence)));
+        Files.deleteIfExists(journalFilePath);
+        persistedPath = filePath;
+        persistedVersions = versionsOf(addressBook);
+        snapshotSequence = lastSequence;
+        journalBytes = 0;
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code filePath} and drops the first {@code compactedBytes} of the journal, which
+     * hold the entries up to {@code sequence}, unless a newer snapshot has been written in the meantime.
+     */
+    private void compact(ReadOnlyAddressBook snapshot, long sequence, long compactedBytes, Path filePath) {
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+        try {
+            FileUtil.writeToFile(compactedFilePath,
+                    JsonUtil.toJsonString(new JsonSerializableJournalSnapshot(snapshot, sequence)));
+            synchronized (this) {
+                if (!filePath.equals(persistedPath) || sequence <= snapshotSequence) {
+                    Files.deleteIfExists(compactedFilePath);
+                    return;
+                }
+                Files.move(compactedFilePath, filePath,
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                snapshotSequence = sequence;
+
+                // Entries up to sequence are now in the snapshot and are skipped on replay even if this step fails
+                Path journalFilePath = getJournalFilePath(filePath);
+                byte[] journal = Files.readAllBytes(journalFilePath);
+                byte[] remaining = Arrays.copyOfRange(journal,
+                        (int) Math.min(compactedBytes, journal.length), journal.length);
+                writeAtomically(journalFilePath, journalFilePath.resolveSibling(
+                        journalFilePath.getFileName() + COMPACTION_FILE_SUFFIX), remaining);
+                journalBytes = remaining.length;
+            }
+            logger.fine("Compacted journal of " + filePath + " up to entry " + sequence);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Returns the entries in the journal of {@code filePath}.
+     * A partly written last entry, left behind if the application stopped while saving, is removed from the file.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return entries;
+        }
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        int lineStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] != '\n') {
+                continue;
+            }
+            String line = new String(journal, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            if (!line.isBlank()) {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < journal.length) {
+            logger.warning("Discarding incomplete last entry in " + journalFilePath);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+            }
+        }
+        return entries;
+    }
+
+    private static long lastSequenceIn(Path filePath) throws IOException {
+        long sequence = 0;
+        for (JsonAdaptedJournalEntry entry : readJournal(filePath)) {
+            sequence = Math.max(sequence, entry.getSequence());
+        }
+        return sequence;
+    }
+
+    private static void append(Path journalFilePath, byte[] bytes) throws IOException {
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void writeAtomically(Path target, Path tempFilePath, String content) throws IOException {
+        writeAtomically(target, tempFilePath, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeAtomically(Path target, Path tempFilePath, byte[] content) throws IOException {
+        FileUtil.createParentDirsOfFile(target);
+        Files.write(tempFilePath, content);
+        Files.move(tempFilePath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        return FileUtil.isFileExists(file) ? Files.size(file) : 0;
+    }
+
+    private static Map<StudentNumber, Long> versionsOf(ReadOnlyAddressBook addressBook) {
+        Map<StudentNumber, Long> versions = new LinkedHashMap<>();
+        for (Student student : addressBook.getStudentList()) {
+            versions.put(student.getStudentNumber(), student.getVersion());
+        }
+        return versions;
+    }
+}
@@ -63,7 +63,7 @@ public class JsonAdaptedAssignment {
             throw new IllegalValueException(AssignmentName.MESSAGE_CONSTRAINTS);
         }
 
-        final AssignmentName modelAssignmentName = new AssignmentName(assignmentName);
+        final AssignmentName modelAssignmentName = AssignmentName.of(assignmentName);
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -81,7 +81,7 @@ public class JsonAdaptedAssignment {
         if (!Status.isValidStatus(submissionStatus)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        final Status modelSubmissionStatus = new Status(submissionStatus);
+        final Status modelSubmissionStatus = Status.of(submissionStatus);
 
         if (grade == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Grade.class.getSimpleName()));
@@ -91,7 +91,7 @@ public class JsonAdaptedAssignment {
             throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
         }
 
-        final Grade modelGrade = new Grade(grade);
+        final Grade modelGrade = Grade.of(grade);
 
         return new Assignment(modelAssignmentName, modelDeadline, modelSubmissionStatus, modelGrade);
 
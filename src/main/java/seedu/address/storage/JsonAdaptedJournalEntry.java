@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+
+/**
+ * Jackson-friendly record of the changes made to the address book between two saves, as kept in a journal.
+ * Each entry lists the students that were removed and, with their positions in the list, the students that were
+ * added or changed.
+ */
+public class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry %d puts a student at invalid position %d.";
+    public static final String MESSAGE_MISMATCHED_STUDENTS = "Journal entry %d has %d positions for %d students.";
+
+    private final long sequence;
+    private final List<String> removed = new ArrayList<>();
+    private final List<Integer> indices = new ArrayList<>();
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+                                   @JsonProperty("removed") List<String> removed,
+                                   @JsonProperty("indices") List<Integer> indices,
+                                   @JsonProperty("students") List<JsonAdaptedStudent> students) {
+        this.sequence = sequence;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (indices != null) {
+            this.indices.addAll(indices);
+        }
+        if (students != null) {
+            this.students.addAll(students);
+        }
+    }
+
+    /**
+     * Converts the given changes into this class for Jackson use.
+     *
+     * @param removed student numbers of the students that are no longer in the list.
+     * @param indices positions of {@code students} in the list after the change, in ascending order.
+     * @param students students that were added or changed.
+     */
+    public JsonAdaptedJournalEntry(long sequence, Collection<StudentNumber> removed, List<Integer> indices,
+                                   List<Student> students) {
+        this.sequence = sequence;
+        removed.forEach(studentNumber -> this.removed.add(studentNumber.value));
+        this.indices.addAll(indices);
+        students.forEach(student -> this.students.add(new JsonAdaptedStudent(student)));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && students.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code studentList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(List<Student> studentList) throws IllegalValueException {
+        if (indices.size() != students.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_STUDENTS,
+                    sequence, indices.size(), students.size()));
+        }
+
+        Set<StudentNumber> replaced = new HashSet<>();
+        for (String studentNumber : removed) {
+            if (!StudentNumber.isValidStudentNumber(studentNumber)) {
+                throw new IllegalValueException(StudentNumber.MESSAGE_CONSTRAINTS);
+            }
+            replaced.add(new StudentNumber(studentNumber));
+        }
+        List<Student> puts = new ArrayList<>();
+        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
+            Student student = jsonAdaptedStudent.toModelType();
+            replaced.add(student.getStudentNumber());
+            puts.add(student);
+        }
+
+        studentList.removeIf(student -> replaced.contains(student.getStudentNumber()));
+        for (int i = 0; i < puts.size(); i++) {
+            int index = indices.get(i);
+            if (index < 0 || index > studentList.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, sequence, index));
+            }
+            studentList.add(index, puts.get(i));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Jackson-friendly version of a manifest entry naming the file that holds the students of one tutorial group.
+ */
+public class JsonAdaptedShard {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard's %s field is missing!";
+    public static final String MESSAGE_INVALID_FILE = "Shard file %s is not in the shard directory.";
+
+    private final String tutorialGroup;
+    private final String file;
+
+    /**
+     * Constructs a {@code JsonAdaptedShard} with the given tutorial group and file name.
+     */
+    @JsonCreator
+    public JsonAdaptedShard(@JsonProperty("tutorialGroup") String tutorialGroup, @JsonProperty("file") String file) {
+        this.tutorialGroup = tutorialGroup;
+        this.file = file;
+    }
+
+    /**
+     * Converts a given tutorial group and the name of its shard file into this class for Jackson use.
+     */
+    public JsonAdaptedShard(TutorialGroup tutorialGroup, String file) {
+        this(tutorialGroup.value, file);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted shard's tutorial group into the model's {@code TutorialGroup}.
+     *
+     * @throws IllegalValueException if the tutorial group or file name is missing or invalid.
+     */
+    public TutorialGroup toModelType() throws IllegalValueException {
+        if (tutorialGroup == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "tutorialGroup"));
+        }
+        if (!TutorialGroup.isValidTutorialGroup(tutorialGroup)) {
+            throw new IllegalValueException(TutorialGroup.MESSAGE_CONSTRAINTS);
+        }
+        if (file == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "file"));
+        }
+        if (file.isEmpty() || file.contains("/") || file.contains("\\") || file.startsWith(".")) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FILE, file));
+        }
+        return TutorialGroup.of(tutorialGroup);
+    }
+}
@@ -65,9 +65,8 @@ public class JsonAdaptedStudent {
         assignments.addAll(source.getAssignments().stream()
                 .map(JsonAdaptedAssignment::new)
                 .collect(Collectors.toList()));
-        attendanceRecord.addAll(source.getAttendanceRecord().stream()
-                .map(JsonAdaptedAttendanceRecord::new)
-                .collect(Collectors.toList()));
+        source.forEachAttendance((date, attendance) ->
+                attendanceRecord.add(new JsonAdaptedAttendanceRecord(date, attendance)));
     }
 
 
@@ -103,7 +102,7 @@ public class JsonAdaptedStudent {
         if (!TutorialGroup.isValidTutorialGroup(tutorialGroup)) {
             throw new IllegalValueException(TutorialGroup.MESSAGE_CONSTRAINTS);
         }
-        final TutorialGroup modelTutorialGroup = new TutorialGroup(tutorialGroup);
+        final TutorialGroup modelTutorialGroup = TutorialGroup.of(tutorialGroup);
 
         if (studentNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
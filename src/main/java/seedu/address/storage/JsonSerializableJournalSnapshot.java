@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@link JsonSerializableStudentAddressBook} that also records the last journal entry it includes.
+ * The extra field is ignored when the file is read as a plain JSON address book.
+ */
+@JsonRootName(value = "addressbook")
+public class JsonSerializableJournalSnapshot extends JsonSerializableStudentAddressBook {
+
+    private final long journalSequence;
+
+    /**
+     * Constructs a {@code JsonSerializableJournalSnapshot} with the given students and journal sequence number.
+     */
+    @JsonCreator
+    public JsonSerializableJournalSnapshot(@JsonProperty("students") List<JsonAdaptedStudent> students,
+                                           @JsonProperty("journalSequence") long journalSequence) {
+        super(students == null ? List.of() : students);
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     *
+     * @param journalSequence sequence number of the last journal entry whose changes are in {@code source}.
+     */
+    public JsonSerializableJournalSnapshot(ReadOnlyAddressBook source, long journalSequence) {
+        super(source);
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+}
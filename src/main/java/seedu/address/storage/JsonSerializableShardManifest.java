@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * The manifest of a sharded address book, listing the shard file of every tutorial group and the order of the
+ * students across the shards.
+ * <p>
+ * The order is kept as runs: each run is a pair of a position in {@code shards} and a number of students, meaning
+ * that the next that many students of the list are the next that many students of that shard.
+ */
+@JsonRootName(value = "manifest")
+public class JsonSerializableShardManifest {
+
+    private final long generation;
+    private final List<JsonAdaptedShard> shards = new ArrayList<>();
+    private final List<List<Integer>> runs = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given generation, shards and runs.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+                                         @JsonProperty("shards") List<JsonAdaptedShard> shards,
+                                         @JsonProperty("runs") List<List<Integer>> runs) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        if (runs != null) {
+            this.runs.addAll(runs);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<JsonAdaptedShard> getShards() {
+        return shards;
+    }
+
+    public List<List<Integer>> getRuns() {
+        return runs;
+    }
+}
@@ -9,15 +9,17 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
 public class JsonStudentAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonStudentAddressBookStorage.class);
+    private static final String STUDENTS_FIELD_NAME = "students";
     private Path filePath;
     public JsonStudentAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -34,6 +36,7 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Students are converted and added to the address book one at a time as the file is read.
      * @param filePath location of the data. Cannot be null.
      * @return Optional.empty if the file does not exist.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -41,17 +44,27 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
 
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
-        Optional<JsonSerializableStudentAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(filePath, JsonSerializableStudentAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayField(filePath, STUDENTS_FIELD_NAME, JsonAdaptedStudent.class,
+                    jsonAdaptedStudent -> addStudent(addressBook, jsonAdaptedStudent));
+            if (!isFound) {
+                return Optional.empty();
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(addressBook);
+    }
+
+    private static void addStudent(AddressBook addressBook, JsonAdaptedStudent jsonAdaptedStudent)
+            throws IllegalValueException {
+        Student student = jsonAdaptedStudent.toModelType();
+        if (addressBook.hasStudent(student)) {
+            throw new IllegalValueException(JsonSerializableStudentAddressBook.MESSAGE_DUPLICATE_STUDENT);
+        }
+        addressBook.addStudent(student);
     }
 
     /**
@@ -66,13 +79,14 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Students are converted and written out one at a time, to a temporary file that then replaces the data file.
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonArrayField(filePath, STUDENTS_FIELD_NAME, addressBook.getStudentList(),
+                JsonAdaptedStudent::new);
     }
 
 }
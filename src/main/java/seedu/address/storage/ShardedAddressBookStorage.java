@@ -0,0 +1,322 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * A class to access AddressBook data stored as one json file per tutorial group on the hard disk.
+ * <p>
+ * The shard files sit in one directory next to a manifest that names the current shard file of every tutorial
+ * group and records the order of the students across the shards. Each save writes new files only for the tutorial
+ * groups whose students changed, under names that no existing manifest refers to, and then replaces the manifest.
+ * A save that is interrupted part way therefore leaves the previous manifest and all the shards it refers to intact.
+ * Shard files that are no longer referred to are deleted once the new manifest is in place.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s listed in the manifest does not exist.";
+    public static final String MESSAGE_WRONG_SHARD = "Student %s in tutorial group %s is in the shard of %s.";
+    public static final String MESSAGE_DUPLICATE_SHARD = "Manifest lists tutorial group %s more than once.";
+    public static final String MESSAGE_INVALID_RUNS = "Student order in the manifest does not match the shards.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String SHARD_FILE_PATTERN = "[A-Z][0-9]{2}-[0-9]+\\.json(\\.tmp)?";
+
+    private final Path manifestPath;
+
+    // What is on disk at persistedPath. Null until that manifest has been read or saved.
+    private Path persistedPath;
+    private long generation;
+    private Map<TutorialGroup, PersistedShard> persistedShards = new HashMap<>();
+    private List<List<Integer>> persistedRuns;
+
+    /**
+     * Creates a storage for the sharded address book whose manifest is at {@code manifestPath}.
+     */
+    public ShardedAddressBookStorage(Path manifestPath) {
+        requireNonNull(manifestPath);
+        this.manifestPath = manifestPath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    /**
+     * Returns the manifest of the shard directory to use in place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * @param manifestPath location of the manifest. Cannot be null.
+     * @return Optional.empty if the manifest does not exist.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path manifestPath)
+            throws DataLoadingException {
+        requireNonNull(manifestPath);
+        Optional<JsonSerializableShardManifest> manifest =
+                JsonUtil.readJsonFile(manifestPath, JsonSerializableShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            Map<TutorialGroup, PersistedShard> shards = new HashMap<>();
+            List<Iterator<Student>> shardStudents = new ArrayList<>();
+            for (JsonAdaptedShard jsonAdaptedShard : manifest.get().getShards()) {
+                TutorialGroup tutorialGroup = jsonAdaptedShard.toModelType();
+                List<Student> students = readShard(manifestPath.resolveSibling(jsonAdaptedShard.getFile()),
+                        tutorialGroup);
+                if (shards.put(tutorialGroup, new PersistedShard(jsonAdaptedShard.getFile(), students)) != null) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_SHARD, tutorialGroup));
+                }
+                shardStudents.add(students.iterator());
+            }
+
+            AddressBook addressBook = new AddressBook();
+            for (List<Integer> run : manifest.get().getRuns()) {
+                if (run.size() != 2 || run.get(0) < 0 || run.get(0) >= shardStudents.size()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_RUNS);
+                }
+                Iterator<Student> students = shardStudents.get(run.get(0));
+                for (int i = 0; i < run.get(1); i++) {
+                    if (!students.hasNext()) {
+                        throw new IllegalValueException(MESSAGE_INVALID_RUNS);
+                    }
+                    addStudent(addressBook, students.next());
+                }
+            }
+            for (Iterator<Student> students : shardStudents) {
+                if (students.hasNext()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_RUNS);
+                }
+            }
+
+            persistedPath = manifestPath;
+            generation = manifest.get().getGeneration();
+            persistedShards = shards;
+            persistedRuns = manifest.get().getRuns();
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards of tutorial groups that changed since the last read or save of {@code manifestPath} are
+     * written; if {@code manifestPath} has not been read or saved before, every shard is written.
+     * @param manifestPath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path manifestPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(manifestPath);
+
+        Map<TutorialGroup, List<Student>> studentsByGroup = new LinkedHashMap<>();
+        Map<TutorialGroup, Integer> shardIndices = new HashMap<>();
+        List<List<Integer>> runs = new ArrayList<>();
+        for (Student student : addressBook.getStudentList()) {
+            TutorialGroup tutorialGroup = student.getTutorialGroup();
+            studentsByGroup.computeIfAbsent(tutorialGroup, unused -> new ArrayList<>()).add(student);
+            int shardIndex = shardIndices.computeIfAbsent(tutorialGroup, unused -> shardIndices.size());
+            List<Integer> lastRun = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (lastRun != null && lastRun.get(0) == shardIndex) {
+                lastRun.set(1, lastRun.get(1) + 1);
+            } else {
+                runs.add(new ArrayList<>(List.of(shardIndex, 1)));
+            }
+        }
+
+        boolean isKnown = manifestPath.equals(persistedPath);
+        Map<TutorialGroup, PersistedShard> previousShards = isKnown ? persistedShards : Map.of();
+        if (!isKnown) {
+            generation = Math.max(generation, generationIn(manifestPath));
+        }
+        long nextGeneration = generation + 1;
+
+        Map<TutorialGroup, PersistedShard> shards = new HashMap<>();
+        List<JsonAdaptedShard> jsonAdaptedShards = new ArrayList<>();
+        int writtenCount = 0;
+        for (Map.Entry<TutorialGroup, List<Student>> group : studentsByGroup.entrySet()) {
+            PersistedShard shard = previousShards.get(group.getKey());
+            if (shard == null || !shard.hasSameStudents(group.getValue())) {
+                String file = group.getKey().value + "-" + nextGeneration + ".json";
+                writeShard(manifestPath.resolveSibling(file), group.getValue());
+                shard = new PersistedShard(file, group.getValue());
+                writtenCount++;
+            }
+            shards.put(group.getKey(), shard);
+            jsonAdaptedShards.add(new JsonAdaptedShard(group.getKey(), shard.file));
+        }
+        if (isKnown && writtenCount == 0 && shards.keySet().equals(previousShards.keySet())
+                && runs.equals(persistedRuns)) {
+            return;
+        }
+
+        writeAtomically(manifestPath, JsonUtil.toJsonString(
+                new JsonSerializableShardManifest(nextGeneration, jsonAdaptedShards, runs)));
+        logger.fine("Wrote " + writtenCount + " of " + shards.size() + " shards for " + manifestPath);
+        persistedPath = manifestPath;
+        generation = nextGeneration;
+        persistedShards = shards;
+        persistedRuns = runs;
+        deleteUnreferencedShards(manifestPath, shards);
+    }
+
+    private static List<Student> readShard(Path shardPath, TutorialGroup tutorialGroup)
+            throws DataLoadingException, IllegalValueException {
+        Optional<ReadOnlyAddressBook> shard = new JsonStudentAddressBookStorage(shardPath).readAddressBook();
+        if (!shard.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardPath.getFileName()));
+        }
+        for (Student student : shard.get().getStudentList()) {
+            if (!student.getTutorialGroup().equals(tutorialGroup)) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_SHARD,
+                        student.getStudentNumber(), student.getTutorialGroup(), tutorialGroup));
+            }
+        }
+        return shard.get().getStudentList();
+    }
+
+    private static void addStudent(AddressBook addressBook, Student student) throws IllegalValueException {
+        if (addressBook.hasStudent(student)) {
+            throw new IllegalValueException(JsonSerializableStudentAddressBook.MESSAGE_DUPLICATE_STUDENT);
+        }
+        addressBook.addStudent(student);
+    }
+
+    private static void writeShard(Path shardPath, List<Student> students) throws IOException {
+        AddressBook shard = new AddressBook();
+        shard.setStudents(students);
+        new JsonStudentAddressBookStorage(shardPath).saveAddressBook(shard);
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code manifestPath}, or 0 if it cannot be read.
+     */
+    private static long generationIn(Path manifestPath) {
+        try {
+            return JsonUtil.readJsonFile(manifestPath, JsonSerializableShardManifest.class)
+                    .map(JsonSerializableShardManifest::getGeneration).orElse(0L);
+        } catch (DataLoadingException e) {
+            logger.warning("Existing manifest " + manifestPath + " could not be read: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the shard files next to {@code manifestPath} that are not in {@code shards}, such as those replaced by
+     * the last save or left behind by a save that was interrupted.
+     */
+    private static void deleteUnreferencedShards(Path manifestPath, Map<TutorialGroup, PersistedShard> shards) {
+        Set<String> referencedFiles = new HashSet<>();
+        shards.values().forEach(shard -> referencedFiles.add(shard.file));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(manifestPath.toAbsolutePath().getParent())) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.matches(SHARD_FILE_PATTERN) && !referencedFiles.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete old shards next to " + manifestPath + ": " + ioe.getMessage());
+        }
+    }
+
+    private static void writeAtomically(Path target, String content) throws IOException {
+        FileUtil.createParentDirsOfFile(target);
+        Path tempFilePath = target.resolveSibling(target.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempFilePath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * A shard file on disk and the versions of the students in it, in order.
+     */
+    private static class PersistedShard {
+        private final String file;
+        private final List<Long> versions = new ArrayList<>();
+
+        PersistedShard(String file, List<Student> students) {
+            this.file = file;
+            students.forEach(student -> versions.add(student.getVersion()));
+        }
+
+        /**
+         * Returns true if {@code students} are the students in this shard, unchanged and in the same order.
+         * A student gets a new version whenever it is created or changed, so equal versions mean equal students.
+         */
+        boolean hasSameStudents(List<Student> students) {
+            if (students.size() != versions.size()) {
+                return false;
+            }
+            for (int i = 0; i < students.size(); i++) {
+                if (students.get(i).getVersion() != versions.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
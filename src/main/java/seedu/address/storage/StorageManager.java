@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStatistics;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -72,7 +74,10 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        long startTime = System.nanoTime();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        PerformanceStatistics.recordSave(System.nanoTime() - startTime,
+                Files.isRegularFile(filePath) ? Files.size(filePath) : 0);
     }
 
 }
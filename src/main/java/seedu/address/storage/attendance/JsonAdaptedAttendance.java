@@ -43,6 +43,6 @@ public class JsonAdaptedAttendance {
         if (!Attendance.isValidAttendance(status)) {
             throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
         }
-        return new Attendance(status);
+        return Attendance.of(status);
     }
 }
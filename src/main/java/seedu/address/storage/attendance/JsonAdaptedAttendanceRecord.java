@@ -38,6 +38,14 @@ public class JsonAdaptedAttendanceRecord {
         attendance = new JsonAdaptedAttendance(source.getAttendance());
     }
 
+    /**
+     * Converts the attendance on a given date into this class for Jackson use.
+     */
+    public JsonAdaptedAttendanceRecord(LocalDate date, Attendance attendance) {
+        this.date = date.toString();
+        this.attendance = new JsonAdaptedAttendance(attendance);
+    }
+
     /**
      * Converts this Jackson-friendly adapted attendance record object into the model's {@code AttendanceRecord} object.
      *
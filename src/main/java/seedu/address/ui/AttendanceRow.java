@@ -4,17 +4,21 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleStringProperty;
 import seedu.address.model.attendance.AttendanceRecord;
 import seedu.address.model.student.Student;
 
 /**
  * Represents a row in the attendance table.
+ * Each date has its own observable value, so a change to one record updates only the cell for that date.
  */
 public class AttendanceRow {
     public final Student student;
     private final String studentName;
     private final String studentNumber;
-    private final Map<LocalDate, String> attendanceByDate;
+    private final Map<LocalDate, SimpleStringProperty> attendanceByDate;
+    private final InvalidationListener recordListener = observable -> updateAttendance((AttendanceRecord) observable);
 
     /**
      * Creates an AttendanceRow with the specified student.
@@ -26,8 +30,7 @@ public class AttendanceRow {
         this.studentNumber = student.getStudentNumber().value;
         this.attendanceByDate = new HashMap<>();
         for (AttendanceRecord record : student.getAttendanceRecord()) {
-            attendanceByDate.put(record.getDate(), record.getAttendance().toString());
-            record.addListener(observable -> updateAttendance(record));
+            addNewAttendanceRecord(record);
         }
     }
 
@@ -40,11 +43,20 @@ public class AttendanceRow {
     }
 
     public void addAttendance(LocalDate date, String attendance) {
-        attendanceByDate.put(date, attendance);
+        attendanceProperty(date).set(attendance);
     }
 
     public String getAttendanceForDate(LocalDate date) {
-        return attendanceByDate.getOrDefault(date, "");
+        SimpleStringProperty attendance = attendanceByDate.get(date);
+        return attendance == null ? "" : attendance.get();
+    }
+
+    /**
+     * Returns the observable attendance status for the specified date, which is empty if there is no record.
+     * @param date The date of the attendance.
+     */
+    public SimpleStringProperty attendanceProperty(LocalDate date) {
+        return attendanceByDate.computeIfAbsent(date, unused -> new SimpleStringProperty(""));
     }
 
     /**
@@ -52,7 +64,7 @@ public class AttendanceRow {
      * @param record The record to update.
      */
     private void updateAttendance(AttendanceRecord record) {
-        attendanceByDate.put(record.getDate(), record.getAttendance().toString());
+        attendanceProperty(record.getDate()).set(record.getAttendance().toString());
     }
 
     /**
@@ -60,7 +72,28 @@ public class AttendanceRow {
      * @param record The new attendance record to add.
      */
     public void addNewAttendanceRecord(AttendanceRecord record) {
-        attendanceByDate.put(record.getDate(), record.getAttendance().toString());
-        record.addListener(observable -> updateAttendance(record));
+        updateAttendance(record);
+        record.addListener(recordListener);
+    }
+
+    /**
+     * Removes an attendance record from the row.
+     * @param record The attendance record that was removed from the student.
+     */
+    public void removeAttendanceRecord(AttendanceRecord record) {
+        record.removeListener(recordListener);
+        SimpleStringProperty attendance = attendanceByDate.get(record.getDate());
+        if (attendance != null) {
+            attendance.set("");
+        }
+    }
+
+    /**
+     * Stops the row from listening to the attendance records of its student.
+     */
+    public void dispose() {
+        for (AttendanceRecord record : student.getAttendanceRecord()) {
+            record.removeListener(recordListener);
+        }
     }
 }
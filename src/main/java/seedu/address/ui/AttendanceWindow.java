@@ -2,13 +2,16 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -24,23 +27,49 @@ import javafx.stage.Stage;
 import seedu.address.model.Model;
 import seedu.address.model.attendance.AttendanceRecord;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.student.TutorialGroup;
 
 //Code adapted from ChatGPT prompts, with modifications to fit the project
 
 /**
  * Represents a window that displays the attendance of students in a tutorial group.
+ * The table is updated in place: a changed record updates one cell, a student joining or leaving the group adds or
+ * removes one row, and date columns are added or removed once per burst of changes, when the next pulse runs.
  */
 
 
 public class AttendanceWindow {
     private static final String ICON_APPLICATION = "/images/TT_icon.png";
+    private static final DateTimeFormatter COLUMN_DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d yyyy");
+    private static final int FIXED_COLUMN_COUNT = 2;
+
     private final TutorialGroup tutorialGroup;
+    private final Consumer<Runnable> pulseScheduler;
+    private final ObservableList<AttendanceRow> data = FXCollections.observableArrayList();
+    private final ObservableList<TableColumn<AttendanceRow, String>> columns = FXCollections.observableArrayList();
     private TableView<AttendanceRow> table;
-    private ObservableList<AttendanceRow> data;
+    private boolean isInitialized;
+
+    private final Map<StudentNumber, AttendanceRow> rowsByStudentNumber = new HashMap<>();
+    private final Map<AttendanceRow, ListChangeListener<AttendanceRecord>> recordListListeners = new HashMap<>();
+    // Number of rows with a record on each date, and the column shown for each date
+    private final Map<LocalDate, Integer> rowCountsByDate = new HashMap<>();
+    private final NavigableMap<LocalDate, TableColumn<AttendanceRow, String>> dateColumns = new TreeMap<>();
+    // Dates whose row count went to or from zero since the last pulse
+    private final Set<LocalDate> staleDates = new LinkedHashSet<>();
+    private boolean isPulseScheduled;
 
     public AttendanceWindow(TutorialGroup tutorialGroup) {
+        this(tutorialGroup, Platform::runLater);
+    }
+
+    /**
+     * Creates an attendance window whose pulses that update the date columns are run by {@code pulseScheduler}.
+     */
+    AttendanceWindow(TutorialGroup tutorialGroup, Consumer<Runnable> pulseScheduler) {
         this.tutorialGroup = tutorialGroup;
+        this.pulseScheduler = pulseScheduler;
     }
 
     /**
@@ -53,8 +82,9 @@ public class AttendanceWindow {
             stage.setTitle("Attendance for Tutorial Group: " + tutorialGroup.toString());
             stage.getIcons().add(new javafx.scene.image.Image(ICON_APPLICATION));
 
-            initializeTable(model);
-            initializeStudentListListener(model);
+            initialize(model);
+            table = new TableView<>(data);
+            Bindings.bindContent(table.getColumns(), columns);
 
             VBox vbox = new VBox(table);
             vbox.setAlignment(Pos.CENTER);
@@ -79,145 +109,145 @@ public class AttendanceWindow {
         });
     }
 
-    private void initializeTable(Model model) {
-        table = new TableView<>();
+    /**
+     * Fills the rows and columns of the table with the students in the tutorial group and starts following changes
+     * to the students in {@code model}.
+     */
+    void initialize(Model model) {
+        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
+            addRow(data.size(), student);
+        }
+
         TableColumn<AttendanceRow, String> studentNameColumn = new TableColumn<>("Student");
         studentNameColumn.setCellValueFactory(cellData ->
                 new SimpleStringProperty(cellData.getValue().getStudentName()));
-        table.getColumns().add(studentNameColumn);
+        columns.add(studentNameColumn);
 
         TableColumn<AttendanceRow, String> studentNumberColumn = new TableColumn<>("Student Number");
         studentNumberColumn.setCellValueFactory(cellData ->
                 new SimpleStringProperty(cellData.getValue().getStudentNumber()));
-        table.getColumns().add(studentNumberColumn);
-
-        Set<LocalDate> attendanceDates = getAllAttendanceDates(model);
-        for (LocalDate date : attendanceDates) {
-            addDateColumn(date);
-        }
+        columns.add(studentNumberColumn);
 
-        data = getStudentAttendanceRows(model);
-        table.setItems(data);
-
-        for (AttendanceRow row : data) {
-            addAttendanceListener(row, attendanceDates, model);
-            for (AttendanceRecord record : row.student.getAttendanceRecord()) {
-                record.addListener(observable -> refreshTable(model));
-            }
-        }
+        updateDateColumns();
+        initializeStudentListListener(model);
+        isInitialized = true;
     }
 
     private void initializeStudentListListener(Model model) {
         model.getAddressBook().getStudentList().addListener((ListChangeListener<Student>) change -> {
             while (change.next()) {
-                if (change.wasAdded()) {
-                    handleNewStudents(change.getAddedSubList(), model);
+                int removedRowIndex = -1;
+                for (Student removedStudent : change.getRemoved()) {
+                    removedRowIndex = removeRow(removedStudent);
                 }
-                if (change.wasRemoved()) {
-                    refreshTable(model);
+                // An edited student keeps the position of the row it replaces
+                boolean isEdit = change.wasReplaced() && change.getAddedSize() == 1 && removedRowIndex >= 0;
+                for (Student addedStudent : change.getAddedSubList()) {
+                    if (addedStudent.getTutorialGroup().equals(tutorialGroup)) {
+                        addRow(isEdit ? removedRowIndex : data.size(), addedStudent);
+                    }
                 }
             }
         });
     }
 
-    private void handleNewStudents(List<? extends Student> newStudents, Model model) {
-        for (Student newStudent : newStudents) {
-            System.out.println("New student added: " + newStudent.getName());
-            AttendanceRow newRow = new AttendanceRow(newStudent);
-
-            for (AttendanceRecord record : newStudent.getAttendanceRecord()) {
-                newRow.addAttendance(record.getDate(), record.getAttendance().toString());
-            }
-
-            data.add(newRow);
-            addAttendanceListener(newRow, getAllAttendanceDates(model), model);
-        }
-    }
-
-    private void addAttendanceListener(AttendanceRow row, Set<LocalDate> attendanceDates, Model model) {
-        row.student.getAttendanceRecord().addListener((ListChangeListener<AttendanceRecord>) change -> {
+    /**
+     * Adds a row for {@code student} at {@code index} and starts listening to its attendance records.
+     */
+    private void addRow(int index, Student student) {
+        AttendanceRow row = new AttendanceRow(student);
+        ListChangeListener<AttendanceRecord> recordListListener = change -> {
             while (change.next()) {
-                if (change.wasAdded()) {
-                    for (AttendanceRecord newRecord : change.getAddedSubList()) {
-                        if (!attendanceDates.contains(newRecord.getDate())) {
-                            attendanceDates.add(newRecord.getDate());
-                            addDateColumn(newRecord.getDate());
-                        }
-                        row.addNewAttendanceRecord(newRecord);
-                        newRecord.addListener(observable -> refreshTable(model));
-                    }
-                    refreshTable(model);
+                for (AttendanceRecord removedRecord : change.getRemoved()) {
+                    row.removeAttendanceRecord(removedRecord);
+                    countDate(removedRecord.getDate(), -1);
                 }
-                if (change.wasRemoved()) {
-                    for (AttendanceRecord removedRecord : change.getRemoved()) {
-                        attendanceDates.remove(removedRecord.getDate());
-                        removeDateColumn(removedRecord.getDate());
-                    }
-                    refreshTable(model);
+                for (AttendanceRecord addedRecord : change.getAddedSubList()) {
+                    row.addNewAttendanceRecord(addedRecord);
+                    countDate(addedRecord.getDate(), 1);
                 }
             }
-        });
+        };
+        student.getAttendanceRecord().addListener(recordListListener);
+        recordListListeners.put(row, recordListListener);
+        rowsByStudentNumber.put(student.getStudentNumber(), row);
+        data.add(index, row);
+        student.forEachAttendance((date, attendance) -> countDate(date, 1));
     }
 
-    private void addDateColumn(LocalDate date) {
-        TableColumn<AttendanceRow, String> dateColumn =
-                new TableColumn<>(DateTimeFormatter.ofPattern("MMM d yyyy").format(date));
-        dateColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getAttendanceForDate(date)));
-        table.getColumns().add(dateColumn);
+    /**
+     * Removes the row of {@code student}, if it is shown, and returns its index, or -1 if it is not shown.
+     */
+    private int removeRow(Student student) {
+        AttendanceRow row = rowsByStudentNumber.get(student.getStudentNumber());
+        if (row == null || row.student != student) {
+            return -1;
+        }
+        rowsByStudentNumber.remove(student.getStudentNumber());
+        student.getAttendanceRecord().removeListener(recordListListeners.remove(row));
+        row.dispose();
+        student.forEachAttendance((date, attendance) -> countDate(date, -1));
+        int index = data.indexOf(row);
+        data.remove(index);
+        return index;
     }
 
-    private void removeDateColumn(LocalDate date) {
-        String columnHeader = DateTimeFormatter.ofPattern("MMM d yyyy").format(date);
-        table.getColumns().removeIf(column -> column.getText().equals(columnHeader));
+    /**
+     * Adds {@code delta} to the number of rows with a record on {@code date}, scheduling the date column to be
+     * added or removed if that number goes to or from zero.
+     */
+    private void countDate(LocalDate date, int delta) {
+        int count = rowCountsByDate.merge(date, delta, Integer::sum);
+        if (count == 0) {
+            rowCountsByDate.remove(date);
+        }
+        if (count == 0 || count - delta == 0) {
+            staleDates.add(date);
+            schedulePulse();
+        }
     }
 
-    public Set<LocalDate> getAllAttendanceDates(Model model) {
-        Set<LocalDate> allDates = new TreeSet<>();
-        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
-            for (AttendanceRecord record : student.getAttendanceRecord()) {
-                allDates.add(record.getDate());
-            }
+    private void schedulePulse() {
+        if (isPulseScheduled || !isInitialized) {
+            return;
         }
-        return allDates;
+        isPulseScheduled = true;
+        pulseScheduler.accept(this::updateDateColumns);
     }
 
-    public ObservableList<AttendanceRow> getStudentAttendanceRows(Model model) {
-        ObservableList<AttendanceRow> rows = FXCollections.observableArrayList();
-        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
-            AttendanceRow row = new AttendanceRow(student);
-            for (AttendanceRecord record : student.getAttendanceRecord()) {
-                row.addAttendance(record.getDate(), record.getAttendance().toString());
+    /**
+     * Adds a column for every stale date that has records and removes the column of every stale date that has none,
+     * keeping the date columns in date order.
+     */
+    private void updateDateColumns() {
+        isPulseScheduled = false;
+        for (LocalDate date : staleDates) {
+            boolean hasRecords = rowCountsByDate.containsKey(date);
+            TableColumn<AttendanceRow, String> column = dateColumns.get(date);
+            if (hasRecords && column == null) {
+                addDateColumn(date);
+            } else if (!hasRecords && column != null) {
+                dateColumns.remove(date);
+                columns.remove(column);
             }
-            rows.add(row);
         }
-        return rows;
+        staleDates.clear();
     }
 
-    private void refreshTable(Model model) {
-        data.clear();
-        data.addAll(getStudentAttendanceRows(model));
-        sortAndRefreshDates(model);
-        table.refresh();
+    private void addDateColumn(LocalDate date) {
+        TableColumn<AttendanceRow, String> dateColumn = new TableColumn<>(COLUMN_DATE_FORMATTER.format(date));
+        dateColumn.setCellValueFactory(cellData -> cellData.getValue().attendanceProperty(date));
+        int index = FIXED_COLUMN_COUNT + dateColumns.headMap(date).size();
+        dateColumns.put(date, dateColumn);
+        columns.add(index, dateColumn);
     }
 
-    private void sortAndRefreshDates(Model model) {
-        List<LocalDate> sortedDates = new ArrayList<>(getAllAttendanceDates(model));
-        Collections.sort(sortedDates);
-        table.getColumns().clear();
-        TableColumn<AttendanceRow, String> studentNameColumn = new TableColumn<>("Student");
-        studentNameColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentName()));
-        table.getColumns().add(studentNameColumn);
-
-        TableColumn<AttendanceRow, String> studentNumberColumn = new TableColumn<>("Student Number");
-        studentNumberColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentNumber()));
-        table.getColumns().add(studentNumberColumn);
+    ObservableList<AttendanceRow> getRows() {
+        return data;
+    }
 
-        for (LocalDate date : sortedDates) {
-            addDateColumn(date);
-        }
+    ObservableList<TableColumn<AttendanceRow, String>> getColumns() {
+        return columns;
     }
 
     public TutorialGroup getTutorialGroup() {
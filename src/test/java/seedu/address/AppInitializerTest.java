@@ -0,0 +1,140 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.StorageMode;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookConverter;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+
+public class AppInitializerTest {
+
+    private static final String ADD_JOHN = "adds n/John Doe p/98765432 tg/G01 sn/A1234567X";
+    private static final String ADD_JANE = "adds n/Jane Doe p/91234567 tg/G02 sn/A7654321Y";
+    private static final String ADD_JACK = "adds n/Jack Tan p/93456789 tg/G01 sn/A2345678Z";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void constructor_jsonToBinaryToJson_editsKept() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressbook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+
+        runSession(StorageMode.JSON, ADD_JOHN);
+        runSession(StorageMode.BINARY, ADD_JANE);
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(binaryFilePath));
+
+        runSession(StorageMode.JSON, ADD_JACK);
+        assertFalse(Files.exists(binaryFilePath));
+        assertTrue(Files.exists(AddressBookConverter.getRetiredFilePath(binaryFilePath)));
+
+        assertEquals(List.of("John Doe", "Jane Doe", "Jack Tan"), runSession(StorageMode.JSON));
+    }
+
+    @Test
+    public void constructor_jsonToShardedToJson_editsKept() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressbook.json");
+        Path manifestFilePath = ShardedAddressBookStorage.getManifestFilePath(jsonFilePath);
+
+        runSession(StorageMode.JSON, ADD_JOHN);
+        runSession(StorageMode.SHARDED, ADD_JANE);
+        runSession(StorageMode.JSON, ADD_JACK);
+        assertFalse(Files.exists(manifestFilePath));
+
+        assertEquals(List.of("John Doe", "Jane Doe", "Jack Tan"), runSession(StorageMode.JSON));
+    }
+
+    @Test
+    public void constructor_journalToJsonToJournal_editsKept() throws Exception {
+        runSession(StorageMode.JOURNAL, ADD_JOHN, ADD_JANE);
+        runSession(StorageMode.JSON, ADD_JACK);
+
+        assertEquals(List.of("John Doe", "Jane Doe", "Jack Tan"), runSession(StorageMode.JOURNAL));
+    }
+
+    @Test
+    public void constructor_storageModeChanged_lastStorageModeSaved() throws Exception {
+        runSession(StorageMode.JSON, ADD_JOHN);
+        setStorageMode(StorageMode.BINARY);
+
+        new AppInitializer(getConfigFilePath());
+
+        assertEquals(StorageMode.BINARY, readUserPrefs().getLastStorageMode());
+    }
+
+    @Test
+    public void constructor_unreadableLastStorage_lastStorageModeKept() throws Exception {
+        Path jsonFilePath = temporaryFolder.resolve("addressbook.json");
+        runSession(StorageMode.JSON, ADD_JOHN);
+        Files.writeString(jsonFilePath, "not json");
+        setStorageMode(StorageMode.BINARY);
+
+        AppInitializer appInitializer = new AppInitializer(getConfigFilePath());
+
+        assertEquals(jsonFilePath, appInitializer.getStorage().getAddressBookFilePath());
+        assertEquals(StorageMode.JSON, readUserPrefs().getLastStorageMode());
+        assertFalse(Files.exists(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath)));
+    }
+
+    /**
+     * Starts the application in {@code storageMode}, executes {@code commands} and stops the application the way
+     * {@code MainApp#stop()} does.
+     *
+     * @return the names of the students in the address book, in order.
+     */
+    private List<String> runSession(StorageMode storageMode, String... commands) throws Exception {
+        setStorageMode(storageMode);
+        AppInitializer appInitializer = new AppInitializer(getConfigFilePath());
+        for (String command : commands) {
+            appInitializer.getLogic().execute(command);
+        }
+        appInitializer.getLogic().flush();
+        appInitializer.getStorage().saveUserPrefs(appInitializer.getModel().getUserPrefs());
+        return appInitializer.getModel().getAddressBook().getStudentList().stream()
+                .map(student -> student.getName().fullName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the storage mode in the user prefs, keeping the other prefs, and creates the config file if needed.
+     */
+    private void setStorageMode(StorageMode storageMode) throws Exception {
+        Path configFilePath = getConfigFilePath();
+        if (!Files.exists(configFilePath)) {
+            Config config = new Config();
+            config.setUserPrefsFilePath(temporaryFolder.resolve("preferences.json"));
+            ConfigUtil.saveConfig(config, configFilePath);
+        }
+
+        UserPrefs userPrefs = Files.exists(temporaryFolder.resolve("preferences.json"))
+                ? readUserPrefs()
+                : new UserPrefs();
+        userPrefs.setAddressBookFilePath(temporaryFolder.resolve("addressbook.json"));
+        userPrefs.setStorageMode(storageMode);
+        new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")).saveUserPrefs(userPrefs);
+    }
+
+    private UserPrefs readUserPrefs() throws Exception {
+        return new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")).readUserPrefs().get();
+    }
+
+    private Path getConfigFilePath() {
+        return temporaryFolder.resolve("config.json");
+    }
+}
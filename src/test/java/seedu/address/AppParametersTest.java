@@ -39,6 +39,12 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParametersMap_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(Map.of("config", "config.json")));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
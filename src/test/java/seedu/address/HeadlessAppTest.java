@@ -0,0 +1,119 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.CloseWindowCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.GetAttendanceByTgCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_JOHN = "adds n/John Doe p/98765432 tg/G01 sn/A1234567X";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final Model model = new ModelManager();
+    private JsonStudentAddressBookStorage addressBookStorage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonStudentAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        app = new HeadlessApp(logic, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runLines_validCommands_feedbackPrinted() throws Exception {
+        int status = app.runLines(new BufferedReader(new StringReader(ADD_JOHN + "\n\n" + ListCommand.COMMAND_WORD)));
+
+        assertEquals(HeadlessApp.STATUS_SUCCESS, status);
+        assertEquals(String.format(AddStudentCommand.MESSAGE_SUCCESS, "John Doe") + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+        assertEquals(1, addressBookStorage.readAddressBook().get().getStudentList().size());
+    }
+
+    @Test
+    public void runLines_invalidCommand_laterCommandsRunAndFailureReported() throws Exception {
+        int status = app.runLines(new BufferedReader(new StringReader("unknown\n" + ADD_JOHN)));
+
+        assertEquals(HeadlessApp.STATUS_COMMAND_FAILED, status);
+        assertTrue(err.toString(StandardCharsets.UTF_8).length() > 0);
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void runLines_windowCommands_rejectedAndLaterCommandsSaved() throws Exception {
+        int status = app.runLines(new BufferedReader(new StringReader(GetAttendanceByTgCommand.COMMAND_WORD
+                + " tg/G01\n" + CloseWindowCommand.COMMAND_WORD + "\n" + ADD_JOHN)));
+
+        assertEquals(HeadlessApp.STATUS_COMMAND_FAILED, status);
+        assertEquals(HeadlessApp.MESSAGE_NOT_HEADLESS + System.lineSeparator()
+                + HeadlessApp.MESSAGE_NOT_HEADLESS + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        assertEquals(1, addressBookStorage.readAddressBook().get().getStudentList().size());
+    }
+
+    @Test
+    public void runLines_exitCommand_laterLinesNotRun() throws Exception {
+        int status = app.runLines(new BufferedReader(new StringReader(ExitCommand.COMMAND_WORD + "\n" + ADD_JOHN)));
+
+        assertEquals(HeadlessApp.STATUS_SUCCESS, status);
+        assertEquals(0, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void runScript_validScript_runAndSavedOnce() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(ADD_JOHN, ListCommand.COMMAND_WORD));
+
+        assertEquals(HeadlessApp.STATUS_SUCCESS, app.runScript(script));
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2) + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(1, addressBookStorage.readAddressBook().get().getStudentList().size());
+    }
+
+    @Test
+    public void runScript_scriptWithFailingLine_failureStatus() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(ADD_JOHN, ADD_JOHN, ListCommand.COMMAND_WORD));
+
+        assertEquals(HeadlessApp.STATUS_COMMAND_FAILED, app.runScript(script));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith(String.format(RunCommand.MESSAGE_FAILURES, 3, 1)));
+        assertEquals(1, addressBookStorage.readAddressBook().get().getStudentList().size());
+    }
+
+    @Test
+    public void runScript_missingScript_failureReported() {
+        assertEquals(HeadlessApp.STATUS_COMMAND_FAILED, app.runScript(temporaryFolder.resolve("missing.txt")));
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Could not read the script"));
+    }
+}
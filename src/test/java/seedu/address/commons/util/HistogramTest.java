@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noValues_zero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(95));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertWithinRelativeError(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_extremeValues_counted() {
+        Histogram histogram = new Histogram();
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void bucketOf_consecutiveValues_bucketsInOrder() {
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(value <= Histogram.highestValueIn(bucket));
+            assertTrue(bucket == 0 || value > Histogram.highestValueIn(bucket - 1));
+        }
+    }
+
+    @Test
+    public void invalidArguments_throwsIllegalArgumentException() {
+        Histogram histogram = new Histogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / Histogram.SUB_BUCKET_COUNT,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("value");
+        String second = new String("value");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_eachKept() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("first");
+        String second = new String("second");
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String[] SAMPLES = {
+        "", " ", "a", "Z", "0", "9", "abc", "a b", " ab", "ab ", "a  b", "12", "123", "1234567", "12a",
+        "a1!", "\u00e9", "ab\u0661", "\u0661\u0662\u0663", "A1234567B", "_", "-", "a\tb"
+    };
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(sample), sample);
+        }
+    }
+
+    @Test
+    public void isAlphanumericWords_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("[\\p{Alnum}][\\p{Alnum} ]*"), ValidationUtil.isAlphanumericWords(sample),
+                    sample);
+        }
+    }
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        for (String sample : SAMPLES) {
+            assertEquals(sample.matches("\\d{3,}"), ValidationUtil.isDigits(sample, 3), sample);
+            assertEquals(sample.matches("\\d*"), ValidationUtil.isDigits(sample, 0, sample.length()), sample);
+        }
+    }
+
+    @Test
+    public void isAlphanumeric_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+    }
+}
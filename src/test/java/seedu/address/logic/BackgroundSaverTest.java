@@ -0,0 +1,93 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.StudentBuilder;
+
+public class BackgroundSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+    @Test
+    public void flush_multipleRequests_savesLatestSnapshotOnce() {
+        BackgroundSaver saver = new BackgroundSaver(getStorage(null), LONG_DEBOUNCE_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(ALICE);
+        saver.requestSave(addressBook);
+        addressBook.addStudent(BOB);
+        saver.requestSave(addressBook);
+
+        saver.flush();
+        saver.flush();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(addressBook, savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void requestSave_addressBookModifiedAfterRequest_snapshotUnchanged() {
+        BackgroundSaver saver = new BackgroundSaver(getStorage(null), LONG_DEBOUNCE_MILLIS);
+        Student student = new StudentBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(student);
+        saver.requestSave(addressBook);
+
+        student.markAttendance(LocalDate.of(2024, 10, 22), "p");
+        saver.flush();
+
+        assertEquals(new StudentBuilder().build(), savedAddressBooks.get(0).getStudentList().get(0));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_reportsFailure() {
+        IOException exception = new IOException("dummy IO exception");
+        BackgroundSaver saver = new BackgroundSaver(getStorage(exception), LONG_DEBOUNCE_MILLIS);
+        List<String> failures = new ArrayList<>();
+        saver.setSaveFailureHandler(failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, exception.getMessage())), failures);
+    }
+
+    /**
+     * Returns a storage that records every saved address book, or throws {@code exception} if it is not null.
+     */
+    private StorageManager getStorage(IOException exception) {
+        JsonStudentAddressBookStorage addressBookStorage =
+                new JsonStudentAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (exception != null) {
+                            throw exception;
+                        }
+                        savedAddressBooks.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DIDDY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_DIDDY;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.TypicalStudents.DIDDY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.PerformanceStatistics;
+import seedu.address.commons.core.PerformanceStatistics.Stage;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteStudentCommand;
@@ -71,6 +76,37 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_saveSkipped() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, ((LogicManager) logic).getSkippedSaveCount());
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY);
+        assertEquals(1, ((LogicManager) logic).getSkippedSaveCount());
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_validCommand_durationsRecorded() throws Exception {
+        long parseCount = PerformanceStatistics.getCommandDurations(ListCommand.COMMAND_WORD, Stage.PARSE).getCount();
+        long saveCount = PerformanceStatistics.getSaveDurations().getCount();
+        logic.execute("  " + ListCommand.COMMAND_WORD + " ");
+        assertEquals(parseCount + 1,
+                PerformanceStatistics.getCommandDurations(ListCommand.COMMAND_WORD, Stage.PARSE).getCount());
+
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY;
+        long executeCount = PerformanceStatistics.getCommandDurations(AddStudentCommand.COMMAND_WORD,
+                Stage.EXECUTE).getCount();
+        logic.execute(addCommand);
+        assertEquals(executeCount + 1, PerformanceStatistics.getCommandDurations(AddStudentCommand.COMMAND_WORD,
+                Stage.EXECUTE).getCount());
+        assertEquals(saveCount + 1, PerformanceStatistics.getSaveDurations().getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
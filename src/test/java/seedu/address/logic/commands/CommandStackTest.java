@@ -2,10 +2,14 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+
 public class CommandStackTest {
     private CommandStack commandStack;
 
@@ -15,6 +19,12 @@ public class CommandStackTest {
         commandStack.clear();
     }
 
+    @AfterEach
+    public void tearDown() {
+        CommandStack.setMemoryBudget(CommandStack.DEFAULT_MEMORY_BUDGET);
+        commandStack.clear();
+    }
+
     @Test
     public void pushCommand() {
         // EP: command is an UndoCommand
@@ -22,6 +32,10 @@ public class CommandStackTest {
         commandStack.pushCommand(command);
         assertTrue(commandStack.isEmpty());
 
+        // EP: command is a RedoCommand
+        commandStack.pushCommand(new RedoCommand());
+        assertTrue(commandStack.isEmpty());
+
         // EP: command is not an UndoCommand
         command = new ListCommand();
         commandStack.pushCommand(command);
@@ -39,4 +53,89 @@ public class CommandStackTest {
         commandStack.pushCommand(command);
         assertEquals(commandStack.popCommand(), command);
     }
+
+    @Test
+    public void pushCommand_afterUndo_undoneCommandsForgotten() {
+        Command undone = new ListCommand();
+        CommandStack.pushUndoneCommand(undone);
+        assertEquals(undone, CommandStack.popUndoneCommand());
+
+        CommandStack.pushUndoneCommand(undone);
+        CommandStack.pushCommand(new StatsCommand());
+        assertEquals(null, CommandStack.popUndoneCommand());
+        assertEquals(Command.COMMAND_MEMORY_ESTIMATE, commandStack.getMemoryUsed());
+    }
+
+    @Test
+    public void pushRedoneCommand_otherUndoneCommandsKept() {
+        Command first = new ListCommand();
+        Command second = new StatsCommand();
+        CommandStack.pushUndoneCommand(second);
+        CommandStack.pushUndoneCommand(first);
+
+        CommandStack.pushRedoneCommand(CommandStack.popUndoneCommand());
+        assertEquals(first, commandStack.peek());
+        assertEquals(second, CommandStack.popUndoneCommand());
+    }
+
+    @Test
+    public void pushCommand_overMemoryBudget_oldestCommandsForgotten() {
+        CommandStack.setMemoryBudget(250);
+        Command oldest = new SizedCommandStub(100);
+        Command middle = new SizedCommandStub(100);
+        Command newest = new SizedCommandStub(100);
+        CommandStack.pushCommand(oldest);
+        CommandStack.pushCommand(middle);
+        CommandStack.pushCommand(newest);
+
+        assertEquals(200, commandStack.getMemoryUsed());
+        assertEquals(newest, CommandStack.popCommand());
+        assertEquals(middle, CommandStack.popCommand());
+        assertEquals(null, CommandStack.popCommand());
+        assertEquals(0, commandStack.getMemoryUsed());
+    }
+
+    @Test
+    public void pushCommand_largerThanMemoryBudget_notKept() {
+        CommandStack.setMemoryBudget(250);
+        CommandStack.pushUndoneCommand(new SizedCommandStub(100));
+        CommandStack.pushCommand(new SizedCommandStub(300));
+        assertTrue(commandStack.isEmpty());
+        assertEquals(null, CommandStack.popUndoneCommand());
+    }
+
+    @Test
+    public void setMemoryBudget_smallerBudget_undoneCommandsForgottenLast() {
+        Command done = new SizedCommandStub(100);
+        Command undone = new SizedCommandStub(100);
+        CommandStack.pushCommand(done);
+        CommandStack.pushUndoneCommand(undone);
+
+        CommandStack.setMemoryBudget(150);
+        assertTrue(commandStack.isEmpty());
+        assertEquals(undone, CommandStack.popUndoneCommand());
+    }
+
+    @Test
+    public void setMemoryBudget_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CommandStack.setMemoryBudget(-1));
+    }
+
+    private static class SizedCommandStub extends Command {
+        private final long memoryEstimate;
+
+        SizedCommandStub(long memoryEstimate) {
+            this.memoryEstimate = memoryEstimate;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("Sized command executed");
+        }
+
+        @Override
+        public long getUndoMemoryEstimate() {
+            return memoryEstimate;
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.EditStudentCommand.EditStudentDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.EditStudentDescriptorBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class RedoCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        CommandStack.getInstance().clear();
+        model = new ModelManager();
+    }
+
+    @Test
+    public void execute_nothingUndone() throws Exception {
+        assertEquals(RedoCommand.MESSAGE_NO_COMMANDS, new RedoCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterUndo_commandAppliedAgain() throws Exception {
+        Student student = new Student(ALICE);
+        AddStudentCommand addCommand = new AddStudentCommand(student);
+        addCommand.execute(model);
+        CommandStack.pushCommand(addCommand);
+
+        new UndoCommand().execute(model);
+        assertFalse(model.hasStudent(student));
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, new RedoCommand().execute(model).getFeedbackToUser());
+        assertTrue(model.hasStudent(student));
+
+        // the redone command can be undone again
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, new UndoCommand().execute(model).getFeedbackToUser());
+        assertFalse(model.hasStudent(student));
+    }
+
+    @Test
+    public void execute_bulkAttendanceUndone_attendanceMarkedAgain() throws Exception {
+        Student student = new StudentBuilder().withTutorialGroup("A01").build();
+        model.addStudent(student);
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        MarkPresentAllCommand markCommand = new MarkPresentAllCommand(student.getTutorialGroup(), date);
+        markCommand.execute(model);
+        CommandStack.pushCommand(markCommand);
+
+        new UndoCommand().execute(model);
+        assertEquals(null, student.getAttendance(date));
+        new RedoCommand().execute(model);
+        assertEquals("p", student.getAttendance(date).value);
+    }
+
+    @Test
+    public void execute_editUndoneWhileFiltered_sameStudentEditedAgain() throws Exception {
+        Student first = new StudentBuilder().withName("Amy Bee").withStudentNumber("A0000001Z").build();
+        Student second = new StudentBuilder().withName("Bob Choo").withStudentNumber("A0000002Z").build();
+        model.addStudent(first);
+        model.addStudent(second);
+        model.updateFilteredStudentList(s -> s.getName().equals(second.getName()));
+
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withPhone("91234567").build();
+        EditStudentCommand editCommand = new EditStudentCommand(Index.fromOneBased(1), descriptor);
+        editCommand.execute(model);
+        CommandStack.pushCommand(editCommand);
+        new UndoCommand().execute(model);
+
+        new RedoCommand().execute(model);
+        assertEquals("91234567", model.getStudentByName(new Name("Bob Choo")).getPhone().value);
+        assertEquals(first.getPhone(), model.getStudentByName(new Name("Amy Bee")).getPhone());
+    }
+
+    @Test
+    public void execute_redoFails_throwsCommandException() {
+        CommandStack.pushUndoneCommand(new DeleteStudentCommand(new Name("Nobody")));
+        assertThrows(CommandException.class, String.format(RedoCommand.MESSAGE_REDO_FAILED,
+                DeleteStudentCommand.MESSAGE_NONEXISTENT_STUDENT), () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+
+        // same object -> returns true
+        assertEquals(redoCommand, redoCommand);
+
+        // same type -> returns true
+        assertEquals(redoCommand, new RedoCommand());
+
+        // different type -> returns false
+        assertFalse(redoCommand.equals(new UndoCommand()));
+
+        // null -> returns false
+        assertFalse(redoCommand.equals(null));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+public class RunCommandTest {
+
+    @Test
+    public void constructor_missingLineNumbers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RunCommand(List.of(new ListCommand()), List.of()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_countShown() {
+        ModelManager model = new ModelManager();
+        RunCommand runCommand = new RunCommand(List.of(new AddStudentCommand(new Student(ALICE)),
+                new AddStudentCommand(new Student(BOB))), List.of(1, 2));
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2), runCommand.execute(model).getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_someCommandsFail_laterCommandsStillRun() {
+        ModelManager model = new ModelManager();
+        RunCommand runCommand = new RunCommand(List.of(new AddStudentCommand(new Student(ALICE)),
+                new AddStudentCommand(new Student(ALICE)),
+                new DeleteStudentCommand(new Name("Nobody")),
+                new AddStudentCommand(new Student(BOB))), List.of(1, 3, 4, 7));
+
+        String[] feedback = runCommand.execute(model).getFeedbackToUser().split("\n");
+        assertEquals(String.format(RunCommand.MESSAGE_FAILURES, 4, 2), feedback[0]);
+        assertEquals(String.format(RunCommand.MESSAGE_LINE_ERROR, 3, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT),
+                feedback[1]);
+        assertTrue(feedback[2].startsWith("Line 4: "));
+        assertEquals(3, feedback.length);
+        assertTrue(model.hasStudent(ALICE));
+        assertTrue(model.hasStudent(BOB));
+    }
+
+    @Test
+    public void execute_severalCommands_studentListChangedOnce() {
+        ModelManager model = new ModelManager();
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        model.getFilteredStudentList().addListener((ListChangeListener<Student>) changes::add);
+        RunCommand runCommand = new RunCommand(List.of(new AddStudentCommand(new Student(ALICE)),
+                new AddStudentCommand(new Student(BOB)),
+                new DeleteStudentCommand(ALICE.getName())), List.of(1, 2, 3));
+
+        runCommand.execute(model);
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BOB), model.getFilteredStudentList());
+
+        changes.clear();
+        runCommand.undo(model);
+        assertEquals(1, changes.size());
+        assertEquals(0, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void undo_afterExecute_allSucceededCommandsUndone() {
+        ModelManager model = new ModelManager();
+        RunCommand runCommand = new RunCommand(List.of(new AddStudentCommand(new Student(ALICE)),
+                new AddStudentCommand(new Student(ALICE)),
+                new AddStudentCommand(new Student(BOB))), List.of(1, 2, 3));
+        runCommand.execute(model);
+
+        assertTrue(runCommand.undo(model));
+        assertEquals(0, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void undo_nothingSucceeded_returnsFalse() {
+        ModelManager model = new ModelManager();
+        RunCommand runCommand = new RunCommand(List.of(new DeleteStudentCommand(new Name("Nobody"))), List.of(1));
+        runCommand.execute(model);
+        assertFalse(runCommand.undo(model));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(List.of(new ListCommand()), List.of(1));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(List.of(new ListCommand()), List.of(1))));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different line numbers -> returns false
+        assertFalse(runCommand.equals(new RunCommand(List.of(new ListCommand()), List.of(2))));
+
+        // different commands -> returns false
+        assertFalse(runCommand.equals(new RunCommand(List.of(new StatsCommand()), List.of(1))));
+    }
+}
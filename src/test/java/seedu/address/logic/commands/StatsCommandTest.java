@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.PerformanceStatistics;
+import seedu.address.commons.core.PerformanceStatistics.Stage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+
+    @Test
+    public void execute_recordedCommands_durationsShown() {
+        PerformanceStatistics.recordCommand("statstest", Stage.PARSE, 1_000_000);
+        PerformanceStatistics.recordCommand("statstest", Stage.EXECUTE, 2_000_000);
+        PerformanceStatistics.recordCommand("statstest", Stage.PARSE, 1_000_000);
+        PerformanceStatistics.recordCommand("statstest", Stage.EXECUTE, 2_000_000);
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_COMMANDS_HEADER));
+        assertTrue(feedback.contains("statstest (2 times)" + System.lineSeparator()
+                + "  parse: 1.000 / 1.000 / 1.000 / 1.000" + System.lineSeparator()
+                + "  execute: 2.000 / 2.000 / 2.000 / 2.000"));
+        // no saves were recorded for the command, so no save durations are shown
+        assertFalse(feedback.contains("statstest (2 times)" + System.lineSeparator()
+                + "  parse: 1.000 / 1.000 / 1.000 / 1.000" + System.lineSeparator()
+                + "  execute: 2.000 / 2.000 / 2.000 / 2.000" + System.lineSeparator() + "  save:"));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new StatsCommand(), new StatsCommand());
+        assertFalse(new StatsCommand().equals(new ListCommand()));
+    }
+}
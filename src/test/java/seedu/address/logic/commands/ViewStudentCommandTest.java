@@ -20,6 +20,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentInListPredicate;
 import seedu.address.testutil.StudentBuilder;
 
 /**
@@ -67,6 +68,18 @@ public class ViewStudentCommandTest {
         assertEquals(Arrays.asList(HUGH), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_nameTokenPrefix_matchingStudentsFound() {
+        Name prefix = new Name("jack");
+        String expectedMessage = String.format(ViewStudentCommand.MESSAGE_SUCCESS, 1, prefix);
+
+        ViewStudentCommand command = new ViewStudentCommand(prefix);
+        expectedModel.updateFilteredStudentList(
+                new StudentInListPredicate(expectedModel.getStudentsByNamePrefix(prefix)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(HUGH), model.getFilteredStudentList());
+    }
+
     @Test
     public void execute_studentWithNameDoesNotExist_throwsCommandException() {
         Name nameWithNoMatch = new StudentBuilder().withName("Matt").build().getName();
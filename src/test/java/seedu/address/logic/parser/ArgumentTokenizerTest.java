@@ -136,6 +136,28 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixTaken() {
+        Prefix tSlash = new Prefix("t/");
+        Prefix tgSlash = new Prefix("tg/");
+        Prefix t = new Prefix("t");
+        String argsString = " tg/G01 t/ lab tg/ t/tg/ tx";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, t, tSlash, tgSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, tgSlash, "G01", "");
+        assertArgumentPresent(argMultimap, tSlash, "lab", "tg/");
+        assertArgumentPresent(argMultimap, t, "x");
+    }
+
+    @Test
+    public void tokenize_sameArgsStringDifferentPrefixes_onlyGivenPrefixesRecognised() {
+        String argsString = " p/ pSlash -t dashT";
+        assertArgumentPresent(ArgumentTokenizer.tokenize(argsString, pSlash), pSlash, "pSlash -t dashT");
+        assertArgumentPresent(ArgumentTokenizer.tokenize(argsString, dashT), dashT, "dashT");
+        assertPreamblePresent(ArgumentTokenizer.tokenize(argsString, dashT), "p/ pSlash");
+        assertArgumentPresent(ArgumentTokenizer.tokenize(argsString, pSlash, dashT), pSlash, "pSlash");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
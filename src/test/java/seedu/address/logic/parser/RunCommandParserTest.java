@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class RunCommandParserTest {
+
+    private static final String ADD_JOHN = "adds n/John Doe p/98765432 tg/G01 sn/A1234567X";
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missing = testFolder.resolve("missing.txt");
+        ParseException pe = assertThrows(ParseException.class, () -> parser.parse(" " + missing));
+        assertTrue(pe.getMessage().startsWith("Could not read the script " + missing));
+    }
+
+    @Test
+    public void parse_validScript_returnsRunCommand() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("# week 3", "", ADD_JOHN, "  list  "));
+
+        RunCommand expectedCommand = new RunCommand(List.of(new AddStudentCommand(johnDoe()), new ListCommand()),
+                List.of(3, 4));
+        assertParseSuccess(parser, " " + script, expectedCommand);
+    }
+
+    @Test
+    public void parseLines_invalidLines_allReportedAndNothingReturned() {
+        ParseException pe = assertThrows(ParseException.class, () ->
+                RunCommandParser.parseLines(List.of(ADD_JOHN, "unknown", "list", "adds n/Jane")));
+        String message = pe.getMessage();
+        assertTrue(message.startsWith(String.format(RunCommandParser.MESSAGE_INVALID_SCRIPT, 2) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"));
+        assertTrue(message.contains("\nLine 4: "));
+    }
+
+    @Test
+    public void parseLines_manyInvalidLines_firstErrorsReported() {
+        List<String> script = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_REPORTED_ERRORS + 5; i++) {
+            script.add("unknown");
+        }
+        ParseException pe = assertThrows(ParseException.class, () -> RunCommandParser.parseLines(script));
+        String[] lines = pe.getMessage().split("\n");
+        assertEquals(RunCommand.MAX_REPORTED_ERRORS + 2, lines.length);
+        assertEquals(String.format(RunCommand.MESSAGE_MORE_ERRORS, 5), lines[lines.length - 1]);
+    }
+
+    @Test
+    public void parseLines_commandNotAllowedInScript_throwsParseException() throws Exception {
+        Path otherScript = testFolder.resolve("other.txt");
+        Files.write(otherScript, List.of("list"));
+        for (String line : List.of("undo", "exit", "help", "closeat", "run " + otherScript)) {
+            ParseException pe = assertThrows(ParseException.class, () ->
+                    RunCommandParser.parseLines(List.of("list", line)));
+            assertTrue(pe.getMessage().endsWith("Line 2: " + RunCommandParser.MESSAGE_NOT_IN_SCRIPT), line);
+        }
+    }
+
+    @Test
+    public void parseLines_onlyCommentsAndBlankLines_throwsParseException() {
+        ParseException pe = assertThrows(ParseException.class, () ->
+                RunCommandParser.parseLines(List.of("# nothing to do", "   ")));
+        assertEquals(RunCommandParser.MESSAGE_EMPTY_SCRIPT, pe.getMessage());
+    }
+
+    private static Student johnDoe() {
+        return new StudentBuilder().withName("John Doe").withPhone("98765432").withTutorialGroup("G01")
+                .withStudentNumber("A1234567X").build();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class AddressBookSnapshotterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 6);
+
+    private final AddressBookSnapshotter snapshotter = new AddressBookSnapshotter();
+
+    @Test
+    public void takeSnapshot_addressBookModifiedAfterSnapshot_snapshotUnchanged() {
+        AddressBook addressBook = getAddressBookOfCopies();
+        ReadOnlyAddressBook snapshot = snapshotter.takeSnapshot(addressBook);
+        AddressBook expected = getAddressBookOfCopies();
+        assertEquals(addressBook, snapshot);
+
+        addressBook.getStudentList().get(0).markAttendance(DATE, "p");
+        assertEquals(expected, snapshot);
+        assertNotSame(addressBook.getStudentList().get(0), snapshot.getStudentList().get(0));
+    }
+
+    @Test
+    public void takeSnapshot_noChanges_previousSnapshotReturned() {
+        AddressBook addressBook = getAddressBookOfCopies();
+        ReadOnlyAddressBook snapshot = snapshotter.takeSnapshot(addressBook);
+        assertSame(snapshot, snapshotter.takeSnapshot(addressBook));
+    }
+
+    @Test
+    public void takeSnapshot_oneStudentChanged_otherCopiesReused() {
+        AddressBook addressBook = getAddressBookOfCopies();
+        ReadOnlyAddressBook first = snapshotter.takeSnapshot(addressBook);
+
+        addressBook.getStudentList().get(1).markAttendance(DATE, "p");
+        ReadOnlyAddressBook second = snapshotter.takeSnapshot(addressBook);
+
+        assertEquals(addressBook, second);
+        assertSame(first.getStudentList().get(0), second.getStudentList().get(0));
+        assertNotSame(first.getStudentList().get(1), second.getStudentList().get(1));
+        assertNull(first.getStudentList().get(1).getAttendance(DATE));
+        assertEquals(new Attendance("p"), second.getStudentList().get(1).getAttendance(DATE));
+    }
+
+    @Test
+    public void takeSnapshot_studentsRemovedAndEdited_snapshotMatches() {
+        AddressBook addressBook = getAddressBookOfCopies();
+        ReadOnlyAddressBook first = snapshotter.takeSnapshot(addressBook);
+
+        Student removed = addressBook.getStudentList().get(0);
+        addressBook.removeStudent(removed);
+        Student edited = addressBook.getStudentList().get(0);
+        addressBook.setStudent(edited, new StudentBuilder(edited).withPhone("99999999").build());
+        ReadOnlyAddressBook second = snapshotter.takeSnapshot(addressBook);
+
+        assertEquals(addressBook, second);
+        assertEquals("99999999", second.getStudentList().get(0).getPhone().toString());
+        // students that moved up the list are still reused
+        assertSame(first.getStudentList().get(2), second.getStudentList().get(1));
+    }
+
+    /**
+     * Returns an address book of copies of the typical students, which can be modified.
+     */
+    private static AddressBook getAddressBookOfCopies() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalStudents().forEach(student -> addressBook.addStudent(new StudentBuilder(student).build()));
+        return addressBook;
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalStudents.CHARLIE;
 import static seedu.address.testutil.TypicalStudents.DIDDY;
 import static seedu.address.testutil.TypicalStudents.HUGH;
 
+import java.time.LocalDate;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.testutil.StudentBuilder;
 public class AddressBookTest {
 
     private final AddressBook addressBook = new AddressBook();
@@ -60,6 +62,24 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getStudentList());
     }
 
+    @Test
+    public void getVersion_dataChanged_versionIncreases() {
+        long version = addressBook.getVersion();
+        assertEquals(version, addressBook.getVersion());
+
+        Student student = new StudentBuilder().build();
+        addressBook.addStudent(student);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > version);
+
+        student.markAttendance(LocalDate.of(2024, 10, 22), "p");
+        long versionAfterMark = addressBook.getVersion();
+        assertTrue(versionAfterMark > versionAfterAdd);
+
+        addressBook.removeStudent(student);
+        assertTrue(addressBook.getVersion() > versionAfterMark);
+    }
+
     @Test
     public void hasStudent() {
         assertTrue(addressBook.hasStudent(BOB));
@@ -199,6 +199,26 @@ public class ModelManagerTest {
         assertEquals(expectedStudents, modelManager.getStudentsByTutorialGroup(new TutorialGroup("L21")));
     }
 
+    @Test
+    public void getStudentsByTutorialGroup_afterModification_reflectsAddressBookOrder() {
+        TutorialGroup t01 = new TutorialGroup("T01");
+        TutorialGroup t02 = new TutorialGroup("T02");
+
+        modelManager.deleteStudent(student1);
+        assertEquals(List.of(student2), modelManager.getStudentsByTutorialGroup(t01));
+
+        modelManager.addStudent(0, student1);
+        assertEquals(List.of(student1, student2), modelManager.getStudentsByTutorialGroup(t01));
+
+        Student movedStudent = new StudentBuilder(student2).withTutorialGroup("T02").build();
+        modelManager.setStudent(student2, movedStudent);
+        assertEquals(List.of(student1), modelManager.getStudentsByTutorialGroup(t01));
+        assertEquals(List.of(movedStudent, student3), modelManager.getStudentsByTutorialGroup(t02));
+
+        modelManager.deleteAllStudents();
+        assertEquals(List.of(), modelManager.getStudentsByTutorialGroup(t02));
+    }
+
     @Test
     public void getStudentsByTutorialGroup_nonExistingGroup_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () ->
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class NameIndexTest {
+
+    private final ObservableList<Student> students = FXCollections.observableArrayList();
+    private final NameIndex nameIndex = new NameIndex(students);
+
+    private Student aliceTan;
+    private Student aliceLim;
+    private Student tanAh;
+
+    @BeforeEach
+    public void setUp() {
+        aliceTan = new StudentBuilder().withName("Alice Tan").withStudentNumber("A1234567L").build();
+        aliceLim = new StudentBuilder().withName("alice Lim").withStudentNumber("A1234568M").build();
+        tanAh = new StudentBuilder().withName("Tan Ah Kow").withStudentNumber("A1234569N").build();
+        students.setAll(aliceTan, aliceLim, tanAh);
+    }
+
+    @Test
+    public void getExact_caseSensitiveMatch_returnsStudents() {
+        assertEquals(List.of(aliceTan), nameIndex.getExact(new Name("Alice Tan")));
+        assertEquals(List.of(), nameIndex.getExact(new Name("alice tan")));
+        assertEquals(List.of(), nameIndex.getExact(new Name("Tan")));
+    }
+
+    @Test
+    public void getByPrefix_fullNameAndTokenPrefixes_returnsStudents() {
+        assertEquals(List.of(aliceLim, aliceTan), nameIndex.getByPrefix(new Name("ALI")));
+        assertEquals(List.of(aliceTan, tanAh), nameIndex.getByPrefix(new Name("tan")));
+        assertEquals(List.of(tanAh), nameIndex.getByPrefix(new Name("ah k")));
+        assertEquals(List.of(), nameIndex.getByPrefix(new Name("Kow Tan")));
+    }
+
+    @Test
+    public void getByPrefix_afterModification_reflectsStudentList() {
+        Student renamed = new StudentBuilder(aliceTan).withName("Bob Tan").build();
+        students.set(0, renamed);
+        assertEquals(List.of(aliceLim), nameIndex.getByPrefix(new Name("alice")));
+        assertEquals(List.of(renamed), nameIndex.getByPrefix(new Name("bob")));
+
+        students.remove(tanAh);
+        assertEquals(List.of(renamed), nameIndex.getByPrefix(new Name("tan")));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -69,4 +71,12 @@ public class AssignmentNameTest {
 
         assertEquals(name1.hashCode(), name2.hashCode()); // same string should have the same hash code
     }
+
+    @Test
+    public void of() {
+        assertSame(AssignmentName.of("Lab 1"), AssignmentName.of("Lab 1"));
+        assertEquals(new AssignmentName("Lab 1"), AssignmentName.of("Lab 1"));
+        assertNotSame(AssignmentName.of("Lab 1"), AssignmentName.of("lab 1"));
+        assertThrows(IllegalArgumentException.class, () -> AssignmentName.of(" Lab"));
+    }
 }
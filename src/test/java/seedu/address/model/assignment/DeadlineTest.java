@@ -38,6 +38,14 @@ public class DeadlineTest {
         assertFalse(Deadline.isValidDeadline("01-01-2024")); // wrong format
         assertFalse(Deadline.isValidDeadline("")); // empty string
         assertFalse(Deadline.isValidDeadline("some text")); // non-date string
+        assertFalse(Deadline.isValidDeadline("2023-02-29")); // not a leap year
+        assertFalse(Deadline.isValidDeadline("2024-04-31")); // day past the end of the month
+        assertFalse(Deadline.isValidDeadline("2024-00-10")); // month zero
+        assertFalse(Deadline.isValidDeadline("2024-1-01")); // one-digit month
+        assertFalse(Deadline.isValidDeadline("2024/01/01")); // wrong separator
+
+        // null deadline
+        assertThrows(NullPointerException.class, () -> Deadline.isValidDeadline(null));
     }
 
     @Test
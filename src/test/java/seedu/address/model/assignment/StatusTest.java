@@ -2,6 +2,7 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -84,4 +85,13 @@ public class StatusTest {
         assertFalse(status1.equals(null)); // null comparison
         assertFalse(status1.equals("Y")); // different type
     }
+
+    @Test
+    public void of() {
+        assertSame(Status.SUBMITTED, Status.of("y"));
+        assertSame(Status.SUBMITTED, Status.of("Y"));
+        assertSame(Status.NOT_SUBMITTED, Status.of("n"));
+        assertSame(Status.NOT_SUBMITTED, Status.getDefault());
+        assertThrows(IllegalArgumentException.class, () -> Status.of("yes"));
+    }
 }
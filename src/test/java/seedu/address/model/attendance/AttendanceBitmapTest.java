@@ -0,0 +1,85 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceBitmapTest {
+
+    private static final Attendance PRESENT = new Attendance("p");
+    private static final Attendance ABSENT = new Attendance("a");
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 8, 12);
+    private static final LocalDate DAY_2 = LocalDate.of(2024, 11, 15);
+    private static final LocalDate EARLIER_DAY = LocalDate.of(2023, 1, 2);
+
+    @Test
+    public void put_markedDays_retrievable() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        assertNull(bitmap.put(DAY_1, PRESENT));
+        assertNull(bitmap.put(DAY_2, ABSENT));
+        assertNull(bitmap.put(EARLIER_DAY, ABSENT));
+
+        assertEquals(PRESENT, bitmap.get(DAY_1));
+        assertEquals(ABSENT, bitmap.get(DAY_2));
+        assertEquals(ABSENT, bitmap.get(EARLIER_DAY));
+        assertNull(bitmap.get(DAY_1.plusDays(1)));
+        assertEquals(3, bitmap.size());
+    }
+
+    @Test
+    public void put_existingDay_replacesAttendance() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        bitmap.put(DAY_1, PRESENT);
+        assertEquals(PRESENT, bitmap.put(DAY_1, ABSENT));
+        assertEquals(ABSENT, bitmap.get(DAY_1));
+        assertEquals(1, bitmap.size());
+    }
+
+    @Test
+    public void remove_markedAndUnmarkedDays() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        assertNull(bitmap.remove(DAY_1));
+        bitmap.put(DAY_1, PRESENT);
+        assertEquals(PRESENT, bitmap.remove(DAY_1));
+        assertNull(bitmap.get(DAY_1));
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void toAttendanceRecords_returnsRecordsInDateOrder() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        bitmap.put(DAY_2, ABSENT);
+        bitmap.put(DAY_1, PRESENT);
+        bitmap.put(EARLIER_DAY, PRESENT);
+        assertEquals(List.of(new AttendanceRecord(EARLIER_DAY, PRESENT), new AttendanceRecord(DAY_1, PRESENT),
+                new AttendanceRecord(DAY_2, ABSENT)), bitmap.toAttendanceRecords());
+    }
+
+    @Test
+    public void equals() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        bitmap.put(DAY_1, PRESENT);
+
+        // same marks added in a different order and with different coverage -> returns true
+        AttendanceBitmap other = new AttendanceBitmap();
+        other.put(EARLIER_DAY, ABSENT);
+        other.put(DAY_1, PRESENT);
+        other.remove(EARLIER_DAY);
+        assertTrue(bitmap.equals(other));
+        assertTrue(other.equals(bitmap));
+        assertEquals(bitmap.hashCode(), other.hashCode());
+
+        // different attendance -> returns false
+        other.put(DAY_1, ABSENT);
+        assertFalse(bitmap.equals(other));
+
+        // different types -> returns false
+        assertFalse(bitmap.equals(1));
+    }
+}
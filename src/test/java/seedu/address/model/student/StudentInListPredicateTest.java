@@ -0,0 +1,39 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentInListPredicateTest {
+
+    @Test
+    public void equals() {
+        StudentInListPredicate firstPredicate = new StudentInListPredicate(List.of(ALICE));
+        StudentInListPredicate secondPredicate = new StudentInListPredicate(List.of(BOB));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new StudentInListPredicate(List.of(ALICE))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_studentInList_returnsTrue() {
+        assertTrue(new StudentInListPredicate(List.of(ALICE, BOB)).test(BOB));
+    }
+
+    @Test
+    public void test_equalStudentNotInList_returnsFalse() {
+        Student copy = new StudentBuilder(ALICE).build();
+        assertFalse(new StudentInListPredicate(List.of(ALICE)).test(copy));
+        assertFalse(new StudentInListPredicate(List.of()).test(ALICE));
+    }
+}
@@ -253,6 +253,49 @@ public class StudentTest {
         assertEquals(expectedString, student.getAttendanceRecordsString());
     }
 
+    @Test
+    void getAttendanceRecordsString_recordsMarkedOutOfOrder_sortedByDate() {
+        Student student = new StudentBuilder().build();
+        student.markAttendance(LocalDate.of(2024, 10, 23), "a");
+        student.markAttendance(LocalDate.of(2024, 10, 22), "p");
+
+        String expectedString = "2024-10-22: Present\n"
+                + "2024-10-23: Absent\n";
+        assertEquals(expectedString, student.getAttendanceRecordsString());
+    }
+
+    @Test
+    void getAttendance_markedAndDeleted_returnsLatestAttendance() {
+        Student student = new StudentBuilder().build();
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        assertNull(student.getAttendance(date));
+
+        student.markAttendance(date, "p");
+        student.markAttendance(date, "a");
+        assertEquals(new Attendance("a"), student.getAttendance(date));
+        assertEquals(1, student.getAttendanceRecord().size());
+
+        student.deleteAttendance(date);
+        assertNull(student.getAttendance(date));
+        assertTrue(student.getAttendanceRecord().isEmpty());
+    }
+
+    @Test
+    void addAttendanceRecord_sameDate_replacesRecord() {
+        Student student = new StudentBuilder().build();
+        LocalDate date = LocalDate.of(2024, 10, 22);
+        student.addAttendanceRecord(new AttendanceRecord(date, new Attendance("p")));
+        student.addAttendanceRecord(new AttendanceRecord(date, new Attendance("a")));
+        assertEquals(List.of(new AttendanceRecord(date, new Attendance("a"))), student.getAttendanceRecord());
+    }
+
+    @Test
+    void getAttendanceRecord_modifyList_throwsUnsupportedOperationException() {
+        Student student = new StudentBuilder().build();
+        AttendanceRecord record = new AttendanceRecord(LocalDate.of(2024, 10, 22), new Attendance("p"));
+        assertThrows(UnsupportedOperationException.class, () -> student.getAttendanceRecord().add(record));
+    }
+
     @Test
     void editAssignment_nonExistentAssignment_returnsNull() {
         // Attempt to edit an assignment that doesn't exist
@@ -283,4 +326,98 @@ public class StudentTest {
         assertEquals(STATUS_Y, updatedAssignment.getSubmissionStatus());
         assertEquals(GRADE_90, updatedAssignment.getGrade());
     }
+
+    @Test
+    void constructor_withDetailsLoader_detailsLoadedOnFirstUse() {
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        int[] loadCount = new int[1];
+        Student lazyStudent = new Student(HUGH.getName(), HUGH.getPhone(), HUGH.getTutorialGroup(),
+                HUGH.getStudentNumber(), (assignments, attendance) -> {
+                    loadCount[0]++;
+                    assignments.add(MATH_ASSIGNMENT_SUBMITTED);
+                    attendance.put(date, new Attendance("p"));
+                });
+        long version = lazyStudent.getVersion();
+        Student copy = new Student(lazyStudent);
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(List.of(MATH_ASSIGNMENT_SUBMITTED), lazyStudent.getAssignments());
+        assertEquals(new Attendance("p"), lazyStudent.getAttendance(date));
+        assertEquals(1, loadCount[0]);
+        assertEquals(version, lazyStudent.getVersion());
+
+        // the copy loads its own details, so changes to it do not affect the original
+        copy.deleteAttendance(date);
+        assertEquals(2, loadCount[0]);
+        assertNull(copy.getAttendance(date));
+        assertEquals(new Attendance("p"), lazyStudent.getAttendance(date));
+    }
+
+    @Test
+    void equals_lazyStudents_detailsLoadedOnlyWhenIdentityMatches() {
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        int[] loadCount = new int[1];
+        StudentDetailsLoader detailsLoader = (assignments, attendance) -> {
+            loadCount[0]++;
+            attendance.put(date, new Attendance("p"));
+        };
+        Student lazyStudent = new Student(HUGH.getName(), HUGH.getPhone(), HUGH.getTutorialGroup(),
+                HUGH.getStudentNumber(), detailsLoader);
+
+        // different identity -> returns false without loading
+        Student otherLazyStudent = new Student(new Name(VALID_NAME_DIDDY), HUGH.getPhone(), HUGH.getTutorialGroup(),
+                HUGH.getStudentNumber(), detailsLoader);
+        assertFalse(lazyStudent.equals(otherLazyStudent));
+        assertEquals(0, loadCount[0]);
+
+        // copy with the same version -> returns true without loading
+        assertTrue(lazyStudent.equals(new Student(lazyStudent)));
+        assertEquals(0, loadCount[0]);
+
+        // same identity, different version -> details compared
+        Student builtStudent = new StudentBuilder(HUGH).build();
+        builtStudent.markAttendance(date, "p");
+        assertTrue(lazyStudent.equals(builtStudent));
+        assertEquals(1, loadCount[0]);
+        builtStudent.markAttendance(date, "a");
+        assertFalse(lazyStudent.equals(builtStudent));
+    }
+
+    @Test
+    void constructor_copy_attendanceChangesIndependent() {
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        Student original = new StudentBuilder(HUGH).build();
+        original.markAttendance(date, "p");
+        Student copy = new Student(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        // changing the original leaves the copy unchanged
+        original.markAttendance(date, "a");
+        assertEquals(new Attendance("p"), copy.getAttendance(date));
+
+        // changing the copy leaves the original unchanged
+        copy.deleteAttendance(date);
+        assertNull(copy.getAttendance(date));
+        assertEquals(new Attendance("a"), original.getAttendance(date));
+    }
+
+    @Test
+    void constructor_withDetailsSource_detailsSharedWithNewVersion() {
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        Student source = new StudentBuilder(HUGH).build();
+        source.addAssignment(MATH_ASSIGNMENT_SUBMITTED);
+        source.markAttendance(date, "p");
+
+        Student edited = new Student(new Name(VALID_NAME_DIDDY), source.getPhone(), source.getTutorialGroup(),
+                source.getStudentNumber(), source);
+        assertEquals(new Name(VALID_NAME_DIDDY), edited.getName());
+        assertEquals(List.of(MATH_ASSIGNMENT_SUBMITTED), edited.getAssignments());
+        assertEquals(List.of(new AttendanceRecord(date, new Attendance("p"))), edited.getAttendanceRecord());
+        assertTrue(edited.getVersion() > source.getVersion());
+
+        edited.markAttendance(date, "a");
+        edited.deleteAssignment(MATH_ASSIGNMENT_SUBMITTED.getAssignmentName());
+        assertEquals(new Attendance("p"), source.getAttendance(date));
+        assertEquals(List.of(MATH_ASSIGNMENT_SUBMITTED), source.getAssignments());
+    }
 }
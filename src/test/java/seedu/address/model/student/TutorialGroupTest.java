@@ -1,6 +1,9 @@
 package seedu.address.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -55,4 +58,17 @@ public class TutorialGroupTest {
         // different values -> returns false
         assertFalse(tutorialGroup.equals(new TutorialGroup("G02")));
     }
+
+    @Test
+    public void of() {
+        // same tutorial group, in any case -> same instance
+        assertSame(TutorialGroup.of("G01"), TutorialGroup.of("g01"));
+        assertEquals(new TutorialGroup("G01"), TutorialGroup.of("G01"));
+
+        // different tutorial groups -> different instances
+        assertNotSame(TutorialGroup.of("G01"), TutorialGroup.of("G02"));
+
+        // invalid tutorial group
+        assertThrows(IllegalArgumentException.class, () -> TutorialGroup.of("G1"));
+    }
 }
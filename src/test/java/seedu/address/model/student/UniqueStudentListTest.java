@@ -0,0 +1,108 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CHARLIE;
+import static seedu.address.testutil.TypicalStudents.DAVID;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.testutil.StudentBuilder;
+
+public class UniqueStudentListTest {
+
+    private final UniqueStudentList uniqueStudentList = new UniqueStudentList();
+
+    @Test
+    public void contains_studentWithSameStudentNumber_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertTrue(uniqueStudentList.contains(editedAlice));
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void get_studentNumber_returnsStudent() {
+        uniqueStudentList.add(ALICE);
+        assertEquals(ALICE, uniqueStudentList.get(ALICE.getStudentNumber()));
+        assertNull(uniqueStudentList.get(BOB.getStudentNumber()));
+    }
+
+    @Test
+    public void add_duplicateStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(0, ALICE));
+    }
+
+    @Test
+    public void remove_afterInsertAtIndex_returnsShiftedIndex() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(0, CHARLIE);
+        assertEquals(2, uniqueStudentList.remove(BOB));
+        assertEquals(0, uniqueStudentList.remove(CHARLIE));
+        assertEquals(0, uniqueStudentList.remove(ALICE));
+        assertTrue(uniqueStudentList.isEmpty());
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(ALICE));
+    }
+
+    @Test
+    public void remove_afterInsertAtIndexFollowingLookup_removesRequestedStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CHARLIE);
+        uniqueStudentList.remove(BOB);
+        // looking up CHARLIE refreshes the positions shifted by the removal
+        uniqueStudentList.setStudent(CHARLIE, CHARLIE);
+        uniqueStudentList.add(1, BOB);
+
+        assertEquals(2, uniqueStudentList.remove(CHARLIE));
+        assertEquals(Arrays.asList(ALICE, BOB), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setStudent_editedStudentHasNewIdentity_indexUpdated() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.setStudent(ALICE, DAVID);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(DAVID));
+        assertEquals(DAVID, uniqueStudentList.asUnmodifiableObservableList().get(0));
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.setStudent(ALICE, CHARLIE));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(DAVID, BOB));
+    }
+
+    @Test
+    public void setStudents_list_replacesIndex() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(Arrays.asList(BOB, CHARLIE));
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertEquals(1, uniqueStudentList.remove(CHARLIE));
+    }
+
+    @Test
+    public void setStudents_listWithDuplicateStudents_throwsDuplicateStudentException() {
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void removeAll_clearsIndex() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.removeAll();
+        assertFalse(uniqueStudentList.contains(ALICE));
+        uniqueStudentList.add(ALICE);
+        assertEquals(0, uniqueStudentList.remove(ALICE));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+
+public class AddressBookGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_sameSettings_sameAddressBook() {
+        assertEquals(new AddressBookGenerator().withSeed(5).generate(),
+                new AddressBookGenerator().withSeed(5).generate());
+        assertNotEquals(new AddressBookGenerator().withSeed(5).generate(),
+                new AddressBookGenerator().withSeed(6).generate());
+    }
+
+    @Test
+    public void generate_moreStudents_sameFirstStudents() {
+        List<Student> fewer = new AddressBookGenerator().withStudents(20).generateStudents();
+        List<Student> more = new AddressBookGenerator().withStudents(50).generateStudents();
+        assertEquals(fewer, more.subList(0, 20));
+    }
+
+    @Test
+    public void generate_settingsRespected() {
+        AddressBook addressBook = new AddressBookGenerator().withStudents(500).withTutorialGroups(7)
+                .withAssignmentsPerStudent(6).withAttendanceSessions(4).withSubmissionRate(1)
+                .withAttendanceRate(0).generate();
+        assertEquals(500, addressBook.getStudentList().size());
+
+        Set<StudentNumber> studentNumbers = new HashSet<>();
+        Set<TutorialGroup> tutorialGroups = new HashSet<>();
+        for (Student student : addressBook.getStudentList()) {
+            assertTrue(studentNumbers.add(student.getStudentNumber()));
+            tutorialGroups.add(student.getTutorialGroup());
+            assertEquals(6, student.getAssignments().size());
+            for (Assignment assignment : student.getAssignments()) {
+                assertTrue(assignment.getGrade().isGraded());
+            }
+            assertEquals(4, student.getAttendanceRecord().size());
+            assertEquals("a", student.getAttendance(AddressBookGenerator.TERM_START).value);
+        }
+        assertEquals(7, tutorialGroups.size());
+    }
+
+    @Test
+    public void generateStudent_indexOfStudentCount_notInAddressBook() {
+        AddressBookGenerator generator = new AddressBookGenerator().withStudents(100);
+        assertFalse(generator.generate().hasStudent(generator.generateStudent(100)));
+    }
+
+    @Test
+    public void withSettings_invalidValues_throwsIllegalArgumentException() {
+        AddressBookGenerator generator = new AddressBookGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.withStudents(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTutorialGroups(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.withTutorialGroups(AddressBookGenerator.MAX_TUTORIAL_GROUPS + 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withGradeStandardDeviation(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withSubmissionRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.withAttendanceRate(-0.1));
+    }
+
+    @Test
+    public void generate_savedAsJson_readBackEqual() throws Exception {
+        AddressBook original = new AddressBookGenerator().withStudents(200).generate();
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(testFolder.resolve("generated.json"));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertIfMissing_targetMissing_converted() throws Exception {
+        JsonStudentAddressBookStorage source = new JsonStudentAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookConverter.convertIfMissing(source, target));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_targetExists_notConverted() throws Exception {
+        JsonStudentAddressBookStorage source = new JsonStudentAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+        target.saveAddressBook(new AddressBook());
+
+        assertFalse(AddressBookConverter.convertIfMissing(source, target));
+        assertEquals(new AddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfMissing_sourceMissing_notConverted() throws Exception {
+        JsonStudentAddressBookStorage source = new JsonStudentAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+
+        assertFalse(AddressBookConverter.convertIfMissing(source, target));
+        assertFalse(target.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void convert_targetExists_targetReplacedAndStaleFilesRetired() throws Exception {
+        JsonStudentAddressBookStorage source = new JsonStudentAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        source.saveAddressBook(getTypicalAddressBook());
+        target.saveAddressBook(new AddressBook());
+
+        assertTrue(AddressBookConverter.convert(source, target, List.of(source.getAddressBookFilePath())));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+        assertFalse(Files.exists(source.getAddressBookFilePath()));
+        assertTrue(Files.exists(AddressBookConverter.getRetiredFilePath(source.getAddressBookFilePath())));
+    }
+
+    @Test
+    public void convert_sourceMissing_targetKept() throws Exception {
+        JsonStudentAddressBookStorage source = new JsonStudentAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        target.saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(AddressBookConverter.convert(source, target, List.of(source.getAddressBookFilePath())));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void retire_retiredCopyExists_replaced() throws Exception {
+        Path file = testFolder.resolve("ab.json");
+        Files.writeString(AddressBookConverter.getRetiredFilePath(file), "old");
+        Files.writeString(file, "new");
+
+        AddressBookConverter.retire(file);
+
+        assertFalse(Files.exists(file));
+        assertEquals("new", Files.readString(AddressBookConverter.getRetiredFilePath(file)));
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CHARLIE;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableStudentAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        Student student = new Student(CHARLIE);
+        student.markAttendance(LocalDate.of(2025, 1, 6), "p");
+        student.markAttendance(LocalDate.of(2025, 1, 8), "a");
+        student.markAttendance(LocalDate.of(2025, 3, 1), "p");
+        original.addStudent(student);
+        original.addStudent(BOB);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.bin.tmp")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        JsonStudentAddressBookStorage jsonStorage = new JsonStudentAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json"));
+        ReadOnlyAddressBook fromJson = jsonStorage.readAddressBook().get();
+        Path originalJson = testFolder.resolve("original.json");
+        jsonStorage.saveAddressBook(fromJson, originalJson);
+
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        binaryStorage.saveAddressBook(fromJson);
+        Path convertedJson = testFolder.resolve("converted.json");
+        jsonStorage.saveAddressBook(binaryStorage.readAddressBook().get(), convertedJson);
+
+        assertEquals(FileUtil.readFromFile(originalJson), FileUtil.readFromFile(convertedJson));
+        assertEquals(fromJson, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazy_sameAsStreamed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        Student student = new Student(CHARLIE);
+        student.markAttendance(LocalDate.of(2025, 1, 6), "p");
+        student.markAttendance(LocalDate.of(2025, 2, 3), "a");
+        original.addStudent(student);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook lazy = lazyStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(lazy));
+
+        // saving replaces the file, so students read from the old file are unaffected
+        AddressBook changed = new AddressBook(lazy);
+        changed.removeStudent(changed.getStudentList().get(0));
+        lazyStorage.saveAddressBook(changed);
+        assertEquals(original, new AddressBook(lazy));
+        assertEquals(changed, new AddressBook(lazyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void releaseMappings_lazyStudentsNotLoaded_detailsDecodedFromCopy() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        Student student = new Student(CHARLIE);
+        student.markAttendance(LocalDate.of(2025, 1, 6), "p");
+        original.addStudent(student);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook lazy = lazyStorage.readAddressBook().get();
+        assertTrue(lazyStorage.releaseMappings(filePath));
+        assertFalse(lazyStorage.releaseMappings(filePath));
+
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(lazy));
+    }
+
+    @Test
+    public void readAddressBook_lazyTruncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_lazyInvalidAttendanceCode_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        Student student = new Student(CHARLIE);
+        student.markAttendance(LocalDate.of(2025, 1, 6), "p");
+        addressBook.addStudent(student);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, true);
+        storage.saveAddressBook(addressBook);
+
+        // the file ends with the attendance codes of its last student
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length - 1] = (byte) 0xFF;
+        Files.write(filePath, content);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("typicalStudentsAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeShort(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CHARLIE;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Student;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addStudent(new Student(BOB));
+        original.removeStudent(original.getStudentList().get(0));
+        original.getStudentList().get(0).markAttendance(LocalDate.of(2025, 1, 6), "p");
+        storage.saveAddressBook(original);
+        original.addStudent(1, new Student(CHARLIE));
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_studentsReordered_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(new Student(BOB));
+        storage.saveAddressBook(original);
+
+        List<Student> reversed = new ArrayList<>(original.getStudentList());
+        Collections.reverse(reversed);
+        original.setStudents(reversed);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(new Student(BOB));
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertEquals(0, Files.size(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonStudentAddressBookStorage(filePath).readAddressBook().get()));
+
+        // entries written after compaction are replayed on top of the compacted snapshot
+        original.addStudent(new Student(CHARLIE));
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(new Student(BOB));
+        storage.saveAddressBook(original);
+
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        long completeSize = Files.size(journalFilePath);
+        Files.write(journalFilePath, "{\"sequence\":2,\"rem".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        assertEquals(completeSize, Files.size(journalFilePath));
+
+        // later entries are appended after the last complete one
+        original.addStudent(new Student(CHARLIE));
+        reopened.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(copyOfTypicalAddressBook());
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"sequence\":1,\"removed\":[\"not a student number\"]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_fullSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = copyOfTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    /**
+     * Returns an address book of copies of the typical students, so that they can be modified by the test.
+     */
+    private static AddressBook copyOfTypicalAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        getTypicalStudents().forEach(student -> addressBook.addStudent(new Student(student)));
+        return addressBook;
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalStudents.DIDDY;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -61,6 +64,18 @@ public class JsonStudentAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidStudentAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicateStudents_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateStudentAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_extraFieldsIgnored() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("extraFieldsStudentAddressBook.json").get();
+        assertEquals(1, addressBook.getStudentList().size());
+        assertEquals("A0272888H", addressBook.getStudentList().get(0).getStudentNumber().value);
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempStudentAddressBook.json");
@@ -91,6 +106,17 @@ public class JsonStudentAddressBookStorageTest {
     }
 
 
+    @Test
+    public void saveAddressBook_streamedOutput_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempStudentAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonStudentAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableStudentAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(testFolder.resolve("TempStudentAddressBook.json.tmp")));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        assertFalse(new ShardedAddressBookStorage(manifestPath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_interleavedGroups_orderKept() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        AddressBook original = addressBookOfTwoGroups();
+
+        new ShardedAddressBookStorage(manifestPath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(manifestPath).readAddressBook().get()));
+        assertEquals(2, readManifest(manifestPath).getShards().size());
+    }
+
+    @Test
+    public void saveAddressBook_oneGroupChanged_onlyThatShardRewritten() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestPath);
+        AddressBook original = addressBookOfTwoGroups();
+        storage.saveAddressBook(original);
+        Map<String, String> filesBefore = shardFilesByGroup(manifestPath);
+
+        original.getStudentList().get(1).markAttendance(LocalDate.of(2025, 1, 6), "p");
+        storage.saveAddressBook(original);
+        Map<String, String> filesAfter = shardFilesByGroup(manifestPath);
+
+        assertEquals(filesBefore.get("A01"), filesAfter.get("A01"));
+        assertNotEquals(filesBefore.get("B02"), filesAfter.get("B02"));
+        assertFalse(Files.exists(manifestPath.resolveSibling(filesBefore.get("B02"))));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(manifestPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_manifestNotRewritten() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        AddressBook original = addressBookOfTwoGroups();
+        new ShardedAddressBookStorage(manifestPath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestPath);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        long generation = readManifest(manifestPath).getGeneration();
+        storage.saveAddressBook(read);
+        assertEquals(generation, readManifest(manifestPath).getGeneration());
+    }
+
+    @Test
+    public void saveAddressBook_studentMovedToOtherGroup_bothShardsRewritten() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestPath);
+        AddressBook original = addressBookOfTwoGroups();
+        storage.saveAddressBook(original);
+
+        Student moved = original.getStudentList().get(0);
+        original.setStudent(moved, new StudentBuilder(moved).withTutorialGroup("C03").build());
+        original.addStudent(new Student(BOB));
+        storage.saveAddressBook(original);
+
+        assertEquals(4, readManifest(manifestPath).getShards().size());
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(manifestPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_shardsLeftByInterruptedSave_ignoredThenDeleted() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        AddressBook original = addressBookOfTwoGroups();
+        new ShardedAddressBookStorage(manifestPath).saveAddressBook(original);
+        Path leftOver = manifestPath.resolveSibling("A01-99.json");
+        Files.writeString(leftOver, "{ \"students\" : [ ] }");
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestPath);
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, read);
+
+        read.addStudent(new Student(BOB));
+        storage.saveAddressBook(read);
+        assertFalse(Files.exists(leftOver));
+        assertEquals(read, new AddressBook(new ShardedAddressBookStorage(manifestPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherManifestPath_allShardsWritten() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Path otherManifestPath = testFolder.resolve("other").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(manifestPath);
+        AddressBook original = addressBookOfTwoGroups();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original, otherManifestPath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherManifestPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        new ShardedAddressBookStorage(manifestPath).saveAddressBook(addressBookOfTwoGroups());
+        Files.delete(manifestPath.resolveSibling(shardFilesByGroup(manifestPath).get("A01")));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(manifestPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_studentInWrongShard_throwsDataLoadingException() throws Exception {
+        Path manifestPath = testFolder.resolve("shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        new ShardedAddressBookStorage(manifestPath).saveAddressBook(addressBookOfTwoGroups());
+        Map<String, String> files = shardFilesByGroup(manifestPath);
+        Files.copy(manifestPath.resolveSibling(files.get("B02")), manifestPath.resolveSibling(files.get("A01")),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(manifestPath).readAddressBook());
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook-shards", "manifest.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void convertIfMissing_jsonToSharded_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        JsonStudentAddressBookStorage jsonStorage = new JsonStudentAddressBookStorage(jsonFilePath);
+        AddressBook original = new AddressBook();
+        getTypicalStudents().forEach(original::addStudent);
+        jsonStorage.saveAddressBook(original);
+
+        ShardedAddressBookStorage shardedStorage =
+                new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        assertTrue(AddressBookConverter.convertIfMissing(jsonStorage, shardedStorage));
+        assertEquals(original, new AddressBook(shardedStorage.readAddressBook().get()));
+    }
+
+    /**
+     * Returns an address book whose students alternate between tutorial groups A01 and B02.
+     */
+    private static AddressBook addressBookOfTwoGroups() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 5; i++) {
+            addressBook.addStudent(new StudentBuilder().withName("Student " + i)
+                    .withTutorialGroup(i % 2 == 0 ? "A01" : "B02")
+                    .withStudentNumber("A000000" + i + "Z").build());
+        }
+        return addressBook;
+    }
+
+    private static JsonSerializableShardManifest readManifest(Path manifestPath) throws Exception {
+        return JsonUtil.readJsonFile(manifestPath, JsonSerializableShardManifest.class).get();
+    }
+
+    private static Map<String, String> shardFilesByGroup(Path manifestPath) throws Exception {
+        Map<String, String> files = new HashMap<>();
+        for (JsonAdaptedShard shard : readManifest(manifestPath).getShards()) {
+            files.put(shard.toModelType().value, shard.getFile());
+        }
+        return files;
+    }
+}
@@ -92,6 +92,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Student> getFilteredStudentList() {
         throw new AssertionError("This method should not be called.");
@@ -116,6 +121,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Student> getStudentsByNamePrefix(Name query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void replaceStudentList(ObservableList<Student> studentList) {
         throw new AssertionError("This method should not be called.");
@@ -1,11 +1,13 @@
 package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.SimpleStringProperty;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceRecord;
 import seedu.address.model.student.Student;
@@ -61,4 +63,32 @@ class AttendanceRowTest {
         record.setAttendance(new Attendance("a"));
         assertEquals("Absent", attendanceRow.getAttendanceForDate(date));
     }
+
+    @Test
+    void attendanceProperty_studentMarked_sameCellUpdated() {
+        Student student = new StudentBuilder().withName("John Doe").build();
+        LocalDate date = LocalDate.of(2023, 10, 12);
+        student.markAttendance(date, "p");
+        AttendanceRow attendanceRow = new AttendanceRow(student);
+        SimpleStringProperty cell = attendanceRow.attendanceProperty(date);
+        assertEquals("Present", cell.get());
+
+        student.markAttendance(date, "a");
+        assertSame(cell, attendanceRow.attendanceProperty(date));
+        assertEquals("Absent", cell.get());
+    }
+
+    @Test
+    void removeAttendanceRecord_existingRecord_cellClearedAndNoLongerUpdated() {
+        Student student = new StudentBuilder().withName("John Doe").build();
+        AttendanceRow attendanceRow = new AttendanceRow(student);
+        LocalDate date = LocalDate.of(2023, 10, 13);
+        AttendanceRecord record = new AttendanceRecord(date, new Attendance("p"));
+        attendanceRow.addNewAttendanceRecord(record);
+
+        attendanceRow.removeAttendanceRecord(record);
+        assertEquals("", attendanceRow.getAttendanceForDate(date));
+        record.setAttendance(new Attendance("a"));
+        assertEquals("", attendanceRow.getAttendanceForDate(date));
+    }
 }
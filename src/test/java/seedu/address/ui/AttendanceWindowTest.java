@@ -3,12 +3,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
-import java.util.Set;
-import java.util.TreeSet;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.student.Student;
@@ -17,127 +20,182 @@ import seedu.address.testutil.StudentBuilder;
 
 public class AttendanceWindowTest {
 
-    @Test
-    void getAllAttendanceDates_validAttendanceRecords_success() {
-        Model model = new ModelManager();
-
-        // Add students with attendance records
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        student1.markAttendance(LocalDate.of(2024, 10, 1), "p");
-        student1.markAttendance(LocalDate.of(2024, 10, 15), "p");
+    private static final LocalDate OCT_1 = LocalDate.of(2024, 10, 1);
+    private static final LocalDate OCT_8 = LocalDate.of(2024, 10, 8);
+    private static final LocalDate OCT_15 = LocalDate.of(2024, 10, 15);
+    private static final LocalDate OCT_20 = LocalDate.of(2024, 10, 20);
 
+    private final Model model = new ModelManager();
+    private final List<Runnable> pulses = new ArrayList<>();
+    private final AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"), pulses::add);
 
-        model.addStudent(student1);
+    private final Student john = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
+            .withTutorialGroup("A01").build();
+    private final Student jane = new StudentBuilder().withName("Jane Doe").withStudentNumber("A7654321M")
+            .withTutorialGroup("A01").build();
 
-        // Create AttendanceWindow and verify
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-        Set<LocalDate> expectedDates = new TreeSet<>();
-        expectedDates.add(LocalDate.of(2024, 10, 1));
-        expectedDates.add(LocalDate.of(2024, 10, 15));
+    @Test
+    void initialize_attendanceRecords_dateColumnsInDateOrder() {
+        john.markAttendance(OCT_15, "p");
+        jane.markAttendance(OCT_1, "a");
+        jane.markAttendance(OCT_15, "a");
+        model.addStudent(john);
+        model.addStudent(jane);
 
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
+        window.initialize(model);
 
-        assertEquals(expectedDates, actualDates);
+        assertEquals(List.of(OCT_1, OCT_15), getColumnDates());
+        assertTrue(pulses.isEmpty());
     }
 
     @Test
-    void getStudentAttendanceRows_validData_success() {
-        Model model = new ModelManager();
-
-        // Add students with attendance records
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        student1.markAttendance(LocalDate.of(2024, 10, 1), "p");
-        student1.markAttendance(LocalDate.of(2024, 10, 15), "a");
-
-        Student student2 = new StudentBuilder().withName("Jane Doe").withStudentNumber("A7654321M")
-                .withTutorialGroup("A01").build();
-        student2.markAttendance(LocalDate.of(2024, 10, 1), "a");
-        student2.markAttendance(LocalDate.of(2024, 10, 15), "p");
-
-        model.addStudent(student1);
-        model.addStudent(student2);
-
-        // Create AttendanceWindow and check the rows
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-        ObservableList<AttendanceRow> rows = window.getStudentAttendanceRows(model);
-
-        // Validate number of rows and content
+    void initialize_studentsInGroup_rowsWithAttendance() {
+        john.markAttendance(OCT_1, "p");
+        john.markAttendance(OCT_15, "a");
+        jane.markAttendance(OCT_1, "a");
+        jane.markAttendance(OCT_15, "p");
+        model.addStudent(john);
+        model.addStudent(new StudentBuilder().withStudentNumber("A1111111M").withTutorialGroup("B01").build());
+        model.addStudent(jane);
+
+        window.initialize(model);
+
+        ObservableList<AttendanceRow> rows = window.getRows();
         assertEquals(2, rows.size());
         assertEquals("John Doe", rows.get(0).getStudentName());
         assertEquals("Jane Doe", rows.get(1).getStudentName());
-        assertEquals("Present", rows.get(0).getAttendanceForDate(LocalDate.of(2024, 10, 1)));
-        assertEquals("Absent", rows.get(1).getAttendanceForDate(LocalDate.of(2024, 10, 1)));
+        assertEquals("Present", rows.get(0).getAttendanceForDate(OCT_1));
+        assertEquals("Absent", rows.get(1).getAttendanceForDate(OCT_1));
     }
 
     @Test
-    void getAllAttendanceDates_noAttendanceRecords_returnsEmptySet() {
-        Model model = new ModelManager();
+    void initialize_noAttendanceRecords_onlyStudentColumns() {
+        model.addStudent(john);
 
-        // Add a student without attendance records
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        model.addStudent(student1);
+        window.initialize(model);
 
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
+        assertEquals(1, window.getRows().size());
+        assertTrue(getColumnDates().isEmpty());
+    }
+
+    @Test
+    void initialize_noStudentsInGroup_emptyTable() {
+        window.initialize(model);
 
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertTrue(actualDates.isEmpty(), "Expected no attendance dates, but some were returned.");
+        assertTrue(window.getRows().isEmpty());
+        assertTrue(getColumnDates().isEmpty());
     }
 
     @Test
-    void getAllAttendanceDates_noStudentsInGroup_returnsEmptySet() {
-        Model model = new ModelManager();
+    void markAttendance_existingDate_cellUpdatedWithoutPulse() {
+        john.markAttendance(OCT_1, "p");
+        model.addStudent(john);
+        window.initialize(model);
 
-        // No students are added to the model
+        john.markAttendance(OCT_1, "a");
 
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
+        assertEquals("Absent", window.getRows().get(0).attendanceProperty(OCT_1).get());
+        assertTrue(pulses.isEmpty());
+    }
 
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertTrue(actualDates.isEmpty(), "Expected no attendance dates since there are no students.");
+    @Test
+    void markAttendance_burstOfNewDates_onePulseInsertsColumnsInDateOrder() {
+        john.markAttendance(OCT_1, "p");
+        jane.markAttendance(OCT_15, "p");
+        model.addStudent(john);
+        model.addStudent(jane);
+        window.initialize(model);
+
+        john.markAttendance(OCT_20, "p");
+        john.markAttendance(OCT_8, "p");
+        jane.markAttendance(OCT_8, "a");
+
+        assertEquals(1, pulses.size());
+        assertEquals(List.of(OCT_1, OCT_15), getColumnDates());
+        runPulses();
+        assertEquals(List.of(OCT_1, OCT_8, OCT_15, OCT_20), getColumnDates());
+        assertEquals("Absent", window.getRows().get(1).attendanceProperty(OCT_8).get());
     }
 
     @Test
-    void getStudentAttendanceRows_noStudentsInGroup_returnsEmptyList() {
-        Model model = new ModelManager();
+    void deleteAttendance_lastRecordOnDate_columnRemovedAfterPulse() {
+        john.markAttendance(OCT_1, "p");
+        john.markAttendance(OCT_8, "p");
+        jane.markAttendance(OCT_8, "a");
+        jane.markAttendance(OCT_15, "a");
+        model.addStudent(john);
+        model.addStudent(jane);
+        window.initialize(model);
+
+        // another student still has a record on the date
+        john.deleteAttendance(OCT_8);
+        assertTrue(pulses.isEmpty());
+        assertEquals("", window.getRows().get(0).attendanceProperty(OCT_8).get());
+
+        jane.deleteAttendance(OCT_8);
+        assertEquals(1, pulses.size());
+        runPulses();
+        assertEquals(List.of(OCT_1, OCT_15), getColumnDates());
+    }
 
-        // No students are added to the model
+    @Test
+    void markAttendance_dateAddedAndRemovedInOneBurst_columnsUnchanged() {
+        john.markAttendance(OCT_1, "p");
+        model.addStudent(john);
+        window.initialize(model);
 
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
+        john.markAttendance(OCT_8, "p");
+        john.deleteAttendance(OCT_8);
+        runPulses();
 
-        ObservableList<AttendanceRow> rows = window.getStudentAttendanceRows(model);
-        assertTrue(rows.isEmpty(), "Expected no attendance rows since there are no students.");
+        assertEquals(List.of(OCT_1), getColumnDates());
     }
 
     @Test
-    void getAllAttendanceDates_multipleStudents_success() {
-        Model model = new ModelManager();
-
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        student1.markAttendance(LocalDate.of(2024, 10, 1), "p");
-
-        Student student2 = new StudentBuilder().withName("Jane Doe").withStudentNumber("A7654321M")
+    void setStudent_editedStudent_rowKeepsPosition() {
+        Student jack = new StudentBuilder().withName("Jack Doe").withStudentNumber("A2222222M")
                 .withTutorialGroup("A01").build();
-        student2.markAttendance(LocalDate.of(2024, 10, 15), "a");
-
-        model.addStudent(student1);
-        model.addStudent(student2);
+        model.addStudent(john);
+        model.addStudent(jane);
+        model.addStudent(jack);
+        window.initialize(model);
 
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-        Set<LocalDate> expectedDates = new TreeSet<>();
-        expectedDates.add(LocalDate.of(2024, 10, 1));
-        expectedDates.add(LocalDate.of(2024, 10, 15));
+        Student editedJane = new StudentBuilder(jane).withName("Jane Tan").build();
+        model.setStudent(jane, editedJane);
 
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertEquals(expectedDates, actualDates, "Expected all attendance dates for both students.");
+        List<String> names = window.getRows().stream().map(AttendanceRow::getStudentName).collect(Collectors.toList());
+        assertEquals(List.of("John Doe", "Jane Tan", "Jack Doe"), names);
     }
 
+    @Test
+    void deleteStudent_onlyStudentWithDate_rowAndColumnRemoved() {
+        john.markAttendance(OCT_1, "p");
+        jane.markAttendance(OCT_15, "p");
+        model.addStudent(john);
+        model.addStudent(jane);
+        window.initialize(model);
+
+        model.deleteStudent(jane);
+        runPulses();
+
+        assertEquals(1, window.getRows().size());
+        assertEquals(List.of(OCT_1), getColumnDates());
+
+        // the removed row no longer follows the student
+        jane.markAttendance(OCT_20, "p");
+        assertTrue(pulses.isEmpty());
+    }
 
+    @Test
+    void addStudent_otherTutorialGroup_noRowAdded() {
+        window.initialize(model);
 
+        model.addStudent(new StudentBuilder().withTutorialGroup("B01").build());
+        model.addStudent(john);
 
-
+        assertEquals(1, window.getRows().size());
+        assertEquals("John Doe", window.getRows().get(0).getStudentName());
+    }
 
     @Test
     void toStringMethod() {
@@ -148,5 +206,20 @@ public class AttendanceWindowTest {
         assertEquals(expectedString, window.toString());
     }
 
+    private void runPulses() {
+        List<Runnable> scheduledPulses = new ArrayList<>(pulses);
+        pulses.clear();
+        scheduledPulses.forEach(Runnable::run);
+    }
 
+    /**
+     * Returns the dates of the date columns, in the order the columns are shown.
+     */
+    private List<LocalDate> getColumnDates() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d yyyy");
+        List<TableColumn<AttendanceRow, String>> columns = window.getColumns();
+        return columns.subList(2, columns.size()).stream()
+                .map(column -> LocalDate.parse(column.getText(), formatter))
+                .collect(Collectors.toList());
+    }
 }